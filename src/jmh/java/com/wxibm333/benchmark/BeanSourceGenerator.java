@@ -0,0 +1,111 @@
+package com.wxibm333.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 生成基准测试用的 java bean 源码，通过宽度、深度、集合/数组/枚举比例、循环引用、javadoc 密度和校验注解密度控制模型规模
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 16:50
+ */
+public class BeanSourceGenerator {
+
+  public final static String PACKAGE = "bench";
+  public final static String ROOT_CLASS = PACKAGE + ".Level0Bean";
+  private final static String[] NORMAL_TYPES = {"String", "Integer", "long", "boolean",
+      "java.math.BigDecimal", "java.time.LocalDateTime"};
+
+  private final int width;
+  private final int depth;
+  private final double collectionRatio;
+  private final double arrayRatio;
+  private final double enumRatio;
+  private final boolean cycles;
+  private final double javadocDensity;
+  private final double annotationDensity;
+  private final Random random = new Random(42);
+
+  public BeanSourceGenerator(int width, int depth, double collectionRatio, double arrayRatio,
+      double enumRatio, boolean cycles, double javadocDensity, double annotationDensity) {
+    this.width = width;
+    this.depth = depth;
+    this.collectionRatio = collectionRatio;
+    this.arrayRatio = arrayRatio;
+    this.enumRatio = enumRatio;
+    this.cycles = cycles;
+    this.javadocDensity = javadocDensity;
+    this.annotationDensity = annotationDensity;
+  }
+
+  /**
+   * 生成所有源码，根类为 {@link #ROOT_CLASS}
+   *
+   * @return java.util.List 每个元素是一个完整的 java 文件
+   * @author wangXin
+   * @date 2026-10-17 16:50
+   */
+  public List<String> generate() {
+    List<String> sources = new ArrayList<>();
+    sources.add("package javax.validation.constraints;\n"
+        + "public @interface NotBlank { String message() default \"\"; }");
+    sources.add("package javax.validation.constraints;\n"
+        + "public @interface Size { int min() default 0; int max() default 2147483647; }");
+    sources.add(this.generateEnum());
+    for (int level = 0; level < depth; level++) {
+      sources.add(this.generateBean(level));
+    }
+    return sources;
+  }
+
+  private String generateEnum() {
+    StringBuilder source = new StringBuilder("package " + PACKAGE + ";\npublic enum Status {\n");
+    String[] constants = {"CREATED", "RUNNING", "FINISHED"};
+    for (int i = 0; i < constants.length; i++) {
+      this.appendJavadoc(source, "status " + constants[i]);
+      source.append("  ").append(constants[i]).append(i < constants.length - 1 ? ",\n" : ";\n");
+    }
+    return source.append("}\n").toString();
+  }
+
+  private String generateBean(int level) {
+    boolean isLeaf = level == depth - 1;
+    String next = "Level" + (level + 1) + "Bean";
+    StringBuilder source = new StringBuilder("package " + PACKAGE + ";\n")
+        .append("public class Level").append(level).append("Bean {\n");
+    for (int i = 0; i < width; i++) {
+      String type;
+      double ratio = random.nextDouble();
+      if (!isLeaf && i == 0) {
+        // 保证每一层都引用下一层，模型深度与 depth 一致
+        type = next;
+      } else if (!isLeaf && ratio < collectionRatio) {
+        type = "java.util.List<" + next + ">";
+      } else if (!isLeaf && ratio < collectionRatio + arrayRatio) {
+        type = next + "[]";
+      } else if (ratio < collectionRatio + arrayRatio + enumRatio) {
+        type = "Status";
+      } else {
+        type = NORMAL_TYPES[random.nextInt(NORMAL_TYPES.length)];
+      }
+      this.appendJavadoc(source, "field " + i + " of level " + level);
+      if ("String".equals(type) && random.nextDouble() < annotationDensity) {
+        source.append("  @javax.validation.constraints.NotBlank\n")
+            .append("  @javax.validation.constraints.Size(max = 64)\n");
+      }
+      source.append("  private ").append(type).append(" field").append(i).append(";\n");
+    }
+    if (isLeaf && cycles) {
+      source.append("  private Level0Bean root;\n");
+    }
+    return source.append("}\n").toString();
+  }
+
+  private void appendJavadoc(StringBuilder source, String description) {
+    if (random.nextDouble() < javadocDensity) {
+      source.append("  /**\n   * ").append(description).append("\n   */\n");
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package com.wxibm333.benchmark;
+
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.projectRoots.JavaSdk;
+import com.intellij.openapi.projectRoots.Sdk;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.impl.PsiModificationTrackerImpl;
+import com.intellij.testFramework.EdtTestUtil;
+import com.intellij.testFramework.LightProjectDescriptor;
+import com.intellij.testFramework.fixtures.DefaultLightProjectDescriptor;
+import com.intellij.testFramework.fixtures.IdeaProjectTestFixture;
+import com.intellij.testFramework.fixtures.IdeaTestFixtureFactory;
+import com.intellij.testFramework.fixtures.JavaCodeInsightTestFixture;
+import com.intellij.testFramework.fixtures.JavaTestFixtureFactory;
+import com.intellij.testFramework.fixtures.TestFixtureBuilder;
+import com.wxibm333.util.ConvertContext;
+import com.wxibm333.util.ConvertToJsonParamSettings;
+import com.wxibm333.util.ConvertToJsonParamUtil;
+import com.wxibm333.util.JsonFragmentCache;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 转换引擎基准测试。
+ * <p>
+ * 使用与 LightJavaCodeInsightFixtureTestCase 相同的轻量 PSI fixture 加载生成的源码，每次调用前递增 PSI 修改计数
+ * 使类模型失效，并清空按依赖淘汰、不随修改计数失效的项目片段缓存，测量的是完整遍历的耗时。{@code useIndex} 为 false 时
+ * 类模型总是遍历 PSI 构建，用于对比索引路径。运行 {@code ./gradlew jmh} 时会附带 {@code -prof gc} 输出分配速率。
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 16:50
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConvertToJsonParamBenchmark {
+
+  @Param({"8", "32"})
+  public int width;
+
+  @Param({"3", "6"})
+  public int depth;
+
+  @Param({"0.2"})
+  public double collectionRatio;
+
+  @Param({"0.1"})
+  public double arrayRatio;
+
+  @Param({"0.1"})
+  public double enumRatio;
+
+  @Param({"false", "true"})
+  public boolean cycles;
+
+  @Param({"0.0", "1.0"})
+  public double javadocDensity;
+
+  @Param({"0.0", "1.0"})
+  public double annotationDensity;
+
+  @Param({"false", "true"})
+  public boolean useIndex;
+
+  private JavaCodeInsightTestFixture fixture;
+  private PsiClass rootClass;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    BeanSourceGenerator generator = new BeanSourceGenerator(width, depth, collectionRatio,
+        arrayRatio, enumRatio, cycles, javadocDensity, annotationDensity);
+    EdtTestUtil.runInEdtAndWait(() -> {
+      TestFixtureBuilder<IdeaProjectTestFixture> builder = IdeaTestFixtureFactory
+          .getFixtureFactory().createLightFixtureBuilder(new HostJdkProjectDescriptor());
+      fixture = JavaTestFixtureFactory.getFixtureFactory()
+          .createCodeInsightFixture(builder.getFixture());
+      fixture.setUp();
+      // 应用在 fixture 初始化后才可用
+      ConvertToJsonParamSettings.getInstance().useBeanModelIndex = useIndex;
+      for (String source : generator.generate()) {
+        fixture.addClass(source);
+      }
+      rootClass = fixture.findClass(BeanSourceGenerator.ROOT_CLASS);
+    });
+  }
+
+  @Setup(Level.Invocation)
+  public void invalidateCaches() throws Exception {
+    EdtTestUtil.runInEdtAndWait(() -> WriteAction.run(
+        () -> ((PsiModificationTrackerImpl) PsiManager.getInstance(fixture.getProject())
+            .getModificationTracker()).incCounter()));
+    JsonFragmentCache.getInstance(fixture.getProject()).clear();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    EdtTestUtil.runInEdtAndWait(() -> fixture.tearDown());
+  }
+
+  @Benchmark
+  public JsonObject plain() {
+    return ReadAction
+        .compute(() -> ConvertToJsonParamUtil.convertJsonObject(rootClass, false, false));
+  }
+
+  @Benchmark
+  public JsonObject carryDocComment() {
+    return ReadAction
+        .compute(() -> ConvertToJsonParamUtil.convertJsonObject(rootClass, true, false));
+  }
+
+  @Benchmark
+  public void plainStreaming() throws Exception {
+    ReadAction.run(() -> {
+      try (JsonWriter writer = new JsonWriter(new NullWriter())) {
+        ConvertToJsonParamUtil
+            .writeJsonObject(rootClass, false, new ConvertContext(false, false, false), writer);
+      }
+    });
+  }
+
+  /**
+   * 使用运行基准测试的 JDK 作为项目 SDK，IDE 发行版中不包含测试用的 mock JDK
+   */
+  private static class HostJdkProjectDescriptor extends DefaultLightProjectDescriptor {
+
+    @Override
+    public Sdk getSdk() {
+      return JavaSdk.getInstance()
+          .createJdk("benchmark-jdk", System.getProperty("java.home"), false);
+    }
+  }
+
+  /**
+   * 丢弃所有输出，只测量遍历和序列化
+   */
+  private static class NullWriter extends Writer {
+
+    @Override
+    public void write(char[] buffer, int offset, int length) {
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
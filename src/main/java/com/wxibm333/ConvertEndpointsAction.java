@@ -0,0 +1,90 @@
+package com.wxibm333;
+
+import com.google.gson.JsonObject;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.LangDataKeys;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import com.wxibm333.util.ConvertToJsonParamUtil;
+import com.wxibm333.util.EndpointExtractUtil;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 提取选中模块中所有 Spring 接口的示例请求体和返回值，输出到一个 json 文件
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 21:00
+ */
+public class ConvertEndpointsAction extends AnAction {
+
+  @Override
+  public void update(@NotNull AnActionEvent anActionEvent) {
+    anActionEvent.getPresentation().setEnabledAndVisible(anActionEvent.getProject() != null
+        && anActionEvent.getData(LangDataKeys.MODULE) != null);
+  }
+
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent anActionEvent) {
+    Project project = anActionEvent.getProject();
+    Module module = anActionEvent.getData(LangDataKeys.MODULE);
+    if (project == null || module == null) {
+      return;
+    }
+    FileSaverDescriptor descriptor = new FileSaverDescriptor("Extract Endpoints",
+        "Choose the output file", "json");
+    VirtualFileWrapper target = FileChooserFactory.getInstance()
+        .createSaveFileDialog(descriptor, project)
+        .save((VirtualFile) null, module.getName() + ".endpoints.json");
+    if (target == null) {
+      return;
+    }
+    File file = target.getFile();
+    String title = String.format("Extracting endpoints of %s", module.getName());
+    ProgressManager.getInstance().run(new Task.Backgroundable(project, title, true) {
+
+      private int endpoints;
+
+      @Override
+      public void run(@NotNull ProgressIndicator indicator) {
+        JsonObject collection = ReadAction
+            .nonBlocking(() -> EndpointExtractUtil.extractEndpoints(module, indicator))
+            .wrapProgress(indicator).expireWith(module).executeSynchronously();
+        endpoints = collection.size();
+        try {
+          EndpointExtractUtil.writeCollection(collection, file.toPath());
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+
+      @Override
+      public void onSuccess() {
+        LocalFileSystem.getInstance().refreshAndFindFileByIoFile(file);
+        ConvertToJsonParamUtil.notify(project,
+            String.format("Extracted %d endpoints to %s.", endpoints, file.getName()),
+            NotificationType.INFORMATION);
+      }
+
+      @Override
+      public void onThrowable(@NotNull Throwable error) {
+        ConvertToJsonParamUtil.notify(project, "Extract endpoints failed.",
+            NotificationType.ERROR);
+      }
+    });
+  }
+}
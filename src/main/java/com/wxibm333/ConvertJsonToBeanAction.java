@@ -0,0 +1,145 @@
+package com.wxibm333;
+
+import com.intellij.ide.IdeView;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.LangDataKeys;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.fileChooser.FileChooser;
+import com.intellij.openapi.fileChooser.FileChooserDescriptorFactory;
+import com.intellij.openapi.ide.CopyPasteManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.InputValidator;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaDirectoryService;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiFileFactory;
+import com.intellij.psi.PsiNameHelper;
+import com.intellij.psi.PsiPackage;
+import com.intellij.psi.codeStyle.CodeStyleManager;
+import com.intellij.psi.codeStyle.JavaCodeStyleManager;
+import com.wxibm333.util.ConvertToJsonParamUtil;
+import com.wxibm333.util.JsonToBeanUtil;
+import java.awt.datatransfer.DataFlavor;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 根据剪贴板或文件中的 json 示例，在选中的目录中生成 java bean
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 22:00
+ */
+public class ConvertJsonToBeanAction extends AnAction {
+
+  private final static String TITLE = "Generate Java Bean from JSON";
+
+  @Override
+  public void update(@NotNull AnActionEvent anActionEvent) {
+    anActionEvent.getPresentation().setEnabledAndVisible(anActionEvent.getProject() != null
+        && anActionEvent.getData(LangDataKeys.IDE_VIEW) != null);
+  }
+
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent anActionEvent) {
+    Project project = anActionEvent.getProject();
+    IdeView view = anActionEvent.getData(LangDataKeys.IDE_VIEW);
+    PsiDirectory directory = view == null ? null : view.getOrChooseDirectory();
+    if (project == null || directory == null) {
+      return;
+    }
+    PsiNameHelper nameHelper = PsiNameHelper.getInstance(project);
+    String className = Messages.showInputDialog(project, "Class name:", TITLE, null, "Root",
+        new InputValidator() {
+          @Override
+          public boolean checkInput(String inputString) {
+            return nameHelper.isIdentifier(inputString);
+          }
+
+          @Override
+          public boolean canClose(String inputString) {
+            return this.checkInput(inputString);
+          }
+        });
+    if (className == null) {
+      return;
+    }
+    if (directory.findFile(className + ".java") != null) {
+      ConvertToJsonParamUtil.notify(project, className + ".java already exists.",
+          NotificationType.ERROR);
+      return;
+    }
+    int source = Messages.showDialog(project, "Read the JSON sample from:", TITLE,
+        new String[]{"Clipboard", "File...", "Cancel"}, 0, Messages.getQuestionIcon());
+    String clipboard = null;
+    VirtualFile sampleFile = null;
+    if (source == 0) {
+      clipboard = CopyPasteManager.getInstance().getContents(DataFlavor.stringFlavor);
+      if (clipboard == null) {
+        ConvertToJsonParamUtil.notify(project, "Clipboard is empty.", NotificationType.ERROR);
+        return;
+      }
+    } else if (source == 1) {
+      sampleFile = FileChooser.chooseFile(
+          FileChooserDescriptorFactory.createSingleFileDescriptor("json"), project, null);
+    }
+    if (clipboard == null && sampleFile == null) {
+      return;
+    }
+    PsiPackage psiPackage = JavaDirectoryService.getInstance().getPackage(directory);
+    String packageName = psiPackage == null ? "" : psiPackage.getQualifiedName();
+    String text = clipboard;
+    String samplePath = sampleFile == null ? null : sampleFile.getPath();
+    ProgressManager.getInstance().run(new Task.Backgroundable(project, TITLE, true) {
+
+      private String generated;
+
+      @Override
+      public void run(@NotNull ProgressIndicator indicator) {
+        // 文件流式读取，不整体加载到内存
+        try (Reader reader = text != null ? new StringReader(text)
+            : Files.newBufferedReader(Paths.get(samplePath), StandardCharsets.UTF_8)) {
+          generated = JsonToBeanUtil.generateSource(reader, className, packageName);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+
+      @Override
+      public void onSuccess() {
+        PsiElement created = WriteCommandAction.writeCommandAction(project)
+            .withName(TITLE).compute(() -> {
+              PsiFile file = PsiFileFactory.getInstance(project)
+                  .createFileFromText(className + ".java", JavaFileType.INSTANCE, generated);
+              PsiElement added = directory.add(file);
+              JavaCodeStyleManager.getInstance(project).shortenClassReferences(added);
+              return CodeStyleManager.getInstance(project).reformat(added);
+            });
+        if (created instanceof PsiFile) {
+          ((PsiFile) created).navigate(true);
+        }
+      }
+
+      @Override
+      public void onThrowable(@NotNull Throwable error) {
+        ConvertToJsonParamUtil.notify(project,
+            "Generate Java bean failed: " + error.getMessage(), NotificationType.ERROR);
+      }
+    });
+  }
+}
@@ -0,0 +1,75 @@
+package com.wxibm333;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowFactory;
+import com.intellij.ui.ScrollPaneFactory;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentFactory;
+import com.intellij.ui.table.TableView;
+import com.intellij.util.ui.ColumnInfo;
+import com.intellij.util.ui.ListTableModel;
+import com.wxibm333.util.ConvertMetrics;
+import com.wxibm333.util.ConvertMetrics.Phase;
+import com.wxibm333.util.ConvertMetricsHistory;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 展示最近几次转换的分阶段耗时和计数
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 17:30
+ */
+public class ConvertMetricsToolWindowFactory implements ToolWindowFactory {
+
+  @Override
+  public void createToolWindowContent(@NotNull Project project, @NotNull ToolWindow toolWindow) {
+    ConvertMetricsHistory history = ConvertMetricsHistory.getInstance(project);
+    SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss");
+    ListTableModel<ConvertMetrics> model = new ListTableModel<>(
+        column("Time", metrics -> timeFormat.format(new Date(metrics.getTimestamp()))),
+        column("Class", ConvertMetrics::getClassName),
+        column("Comment", metrics -> metrics.isWithComment() ? "yes" : "no"),
+        column("Total ms", metrics -> millis(metrics.getTotalNanos())),
+        column("Resolve ms", metrics -> millis(metrics.getPhaseNanos(Phase.RESOLVE))),
+        column("Walk ms", metrics -> millis(metrics.getPhaseNanos(Phase.WALK))),
+        column("Doc ms", metrics -> millis(metrics.getPhaseNanos(Phase.DOC))),
+        column("Serialize ms", metrics -> millis(metrics.getPhaseNanos(Phase.SERIALIZATION))),
+        column("Output ms", metrics -> millis(metrics.getPhaseNanos(Phase.OUTPUT))),
+        column("Classes", ConvertMetrics::getClasses),
+        column("Fields", ConvertMetrics::getFields),
+        column("Resolves", ConvertMetrics::getResolveCalls),
+        column("Cache hits", ConvertMetrics::getCacheHits),
+        column("Models built", ConvertMetrics::getModelBuilds),
+        column("Model hits", ConvertMetrics::getModelCacheHits),
+        column("Model ms", metrics -> millis(metrics.getModelNanos())),
+        column("Max depth", ConvertMetrics::getMaxDepth),
+        column("Bytes", ConvertMetrics::getOutputBytes));
+    model.setItems(history.getRuns());
+    TableView<ConvertMetrics> table = new TableView<>(model);
+    Content content = ContentFactory.SERVICE.getInstance()
+        .createContent(ScrollPaneFactory.createScrollPane(table), "", false);
+    history.addListener(() -> model.setItems(history.getRuns()), content);
+    toolWindow.getContentManager().addContent(content);
+  }
+
+  private static String millis(long nanos) {
+    return String.format("%.2f", nanos / 1e6);
+  }
+
+  private static ColumnInfo<ConvertMetrics, Object> column(@NotNull String name,
+      @NotNull Function<ConvertMetrics, Object> getter) {
+    return new ColumnInfo<ConvertMetrics, Object>(name) {
+      @Nullable
+      @Override
+      public Object valueOf(ConvertMetrics metrics) {
+        return getter.apply(metrics);
+      }
+    };
+  }
+}
@@ -0,0 +1,336 @@
+package com.wxibm333;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.ide.CopyPasteManager;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiSubstitutor;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.ui.PopupHandler;
+import com.intellij.ui.ScrollPaneFactory;
+import com.intellij.ui.treeStructure.Tree;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.wxibm333.util.BeanModel;
+import com.wxibm333.util.BeanModelUtil;
+import com.wxibm333.util.ConvertToJsonParamUtil;
+import com.wxibm333.util.FieldModel;
+import com.wxibm333.util.TypeKind;
+import java.awt.datatransfer.StringSelection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.swing.event.TreeExpansionEvent;
+import javax.swing.event.TreeWillExpandListener;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.TreePath;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 以树的形式预览类的 json 结构。
+ * <p>
+ * 打开时只解析根类的字段，嵌套的实体类、集合元素类型和枚举在节点展开时才在后台读操作中解析，首次展示的耗时与模型深度无关。
+ * 任意节点都可以复制对应子树的示例 json。
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 20:00
+ */
+public class ConvertPreviewPanel extends SimpleToolWindowPanel implements Disposable {
+
+  public final static String TOOL_WINDOW_ID = "ConvertToJsonParam Preview";
+
+  private final Project project;
+  private final DefaultTreeModel treeModel;
+  private final Tree tree;
+
+  public ConvertPreviewPanel(@NotNull Project project) {
+    super(true, true);
+    this.project = project;
+    treeModel = new DefaultTreeModel(new DefaultMutableTreeNode("No class selected"), true);
+    tree = new Tree(treeModel);
+    tree.addTreeWillExpandListener(new TreeWillExpandListener() {
+      @Override
+      public void treeWillExpand(TreeExpansionEvent event) {
+        Object node = event.getPath().getLastPathComponent();
+        if (node instanceof PreviewNode) {
+          ConvertPreviewPanel.this.loadChildren((PreviewNode) node);
+        }
+      }
+
+      @Override
+      public void treeWillCollapse(TreeExpansionEvent event) {
+      }
+    });
+    DefaultActionGroup popupGroup = new DefaultActionGroup(new CopySubtreeAction());
+    PopupHandler.installPopupHandler(tree, popupGroup, "ConvertToJsonParamPreviewPopup",
+        ActionManager.getInstance());
+    this.setContent(ScrollPaneFactory.createScrollPane(tree));
+  }
+
+  /**
+   * 展示类的结构，只解析根类的字段，需要在 EDT 中调用
+   *
+   * @param classPointer 根类
+   * @param className    根类名称
+   * @author wangXin
+   * @date 2026-10-17 20:00
+   */
+  public void show(@NotNull SmartPsiElementPointer<PsiClass> classPointer,
+      @NotNull String className) {
+    PreviewNode root = new PreviewNode(className, classPointer, null, null, true, null);
+    treeModel.setRoot(root);
+    tree.expandPath(new TreePath(root));
+  }
+
+  private void loadChildren(@NotNull PreviewNode node) {
+    if (node.loaded) {
+      return;
+    }
+    node.loaded = true;
+    node.add(new PreviewNode("Loading...", null, null, null, false, null));
+    treeModel.nodeStructureChanged(node);
+    ReadAction.nonBlocking(() -> ConvertPreviewPanel.computeChildren(node))
+        .finishOnUiThread(ModalityState.any(), children -> {
+          node.removeAllChildren();
+          children.forEach(node::add);
+          // 重新展示其他类之后，旧树上的节点不再刷新
+          if (node.getRoot() == treeModel.getRoot()) {
+            treeModel.nodeStructureChanged(node);
+          }
+        })
+        .expireWith(this)
+        .submit(AppExecutorUtil.getAppExecutorService())
+        .onError(error -> ApplicationManager.getApplication().invokeLater(() -> {
+          // 读操作失败或被取消时允许重新展开
+          node.loaded = false;
+          node.removeAllChildren();
+          if (node.getRoot() == treeModel.getRoot()) {
+            treeModel.nodeStructureChanged(node);
+          }
+        }));
+  }
+
+  /**
+   * 解析节点的下一层，需要在读操作中调用
+   */
+  private static List<PreviewNode> computeChildren(@NotNull PreviewNode node) {
+    PsiClass owner = node.owner == null ? null : node.owner.getElement();
+    if (owner == null) {
+      return Collections.emptyList();
+    }
+    if (node.fieldName == null) {
+      return ConvertPreviewPanel.fieldNodes(owner, PsiSubstitutor.EMPTY, null);
+    }
+    PsiSubstitutor substitutor = ConvertPreviewPanel.substitutorOf(node);
+    FieldModel field = ConvertPreviewPanel.findField(owner, substitutor, node.fieldName);
+    if (field == null) {
+      return Collections.emptyList();
+    }
+    PsiClass targetClass = field.getTargetClass();
+    switch (field.getElementKind()) {
+      case BEAN:
+        return targetClass == null ? Collections.emptyList()
+            : ConvertPreviewPanel.fieldNodes(targetClass, field.getTargetSubstitutor(), node);
+      case ENUM:
+        List<PreviewNode> constants = new ArrayList<>();
+        if (targetClass != null) {
+          for (String constant : BeanModelUtil.getBeanModel(targetClass, false)
+              .getEnumConstants().keySet()) {
+            constants.add(new PreviewNode(constant, null, null, new JsonPrimitive(constant),
+                false, null));
+          }
+        }
+        return constants;
+      case NORMAL:
+        // 数组、集合的普通元素只展示一个示例值
+        JsonElement element = ConvertToJsonParamUtil
+            .convertFieldValue(owner, substitutor, node.fieldName);
+        JsonElement sample = element.isJsonArray() && element.getAsJsonArray().size() > 0
+            ? element.getAsJsonArray().get(0) : element;
+        return Collections.singletonList(
+            new PreviewNode("[0] = " + sample, null, null, sample, false, null));
+      default:
+        return Collections.emptyList();
+    }
+  }
+
+  /**
+   * 为类的每个字段创建节点，只读取字段本身的类型，不解析字段引用的类
+   *
+   * @param ownerField 引用该类的字段节点，根类为 null
+   */
+  private static List<PreviewNode> fieldNodes(@NotNull PsiClass psiClass,
+      @NotNull PsiSubstitutor substitutor, @Nullable PreviewNode ownerField) {
+    SmartPsiElementPointer<PsiClass> pointer = SmartPointerManager.createPointer(psiClass);
+    BeanModel beanModel = BeanModelUtil.getBeanModel(psiClass, substitutor, false, null);
+    List<PreviewNode> nodes = new ArrayList<>();
+    for (FieldModel field : beanModel.getFields()) {
+      String label = field.getName() + ": " + field.getTypeText();
+      if (field.getKind() == TypeKind.NORMAL && field.getDefaultValue() != null) {
+        label += " = " + field.getDefaultValue();
+      }
+      nodes.add(new PreviewNode(label, pointer, field.getName(), null,
+          ConvertPreviewPanel.isExpandable(field), ownerField));
+    }
+    return nodes;
+  }
+
+  private static boolean isExpandable(@NotNull FieldModel field) {
+    switch (field.getKind()) {
+      case BEAN:
+      case ENUM:
+        return field.getTargetClass() != null;
+      case ARRAY:
+      case COLLECTION:
+        return field.getElementKind() == TypeKind.NORMAL || field.getTargetClass() != null;
+      default:
+        return false;
+    }
+  }
+
+  @Nullable
+  private static FieldModel findField(@NotNull PsiClass psiClass,
+      @NotNull PsiSubstitutor substitutor, @NotNull String fieldName) {
+    for (FieldModel field : BeanModelUtil.getBeanModel(psiClass, substitutor, false, null)
+        .getFields()) {
+      if (field.getName().equals(fieldName)) {
+        return field;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 字段节点所在类的类型参数，节点不持有 PSI，由引用该类的字段节点逐层重新计算，
+   * 例如 {@code Page<UserDto>} 字段下的节点中 T 替换为 UserDto
+   */
+  private static PsiSubstitutor substitutorOf(@NotNull PreviewNode node) {
+    PreviewNode ownerField = node.ownerField;
+    PsiClass fieldOwner = ownerField == null || ownerField.owner == null ? null
+        : ownerField.owner.getElement();
+    if (fieldOwner == null || ownerField.fieldName == null) {
+      return PsiSubstitutor.EMPTY;
+    }
+    FieldModel field = ConvertPreviewPanel.findField(fieldOwner,
+        ConvertPreviewPanel.substitutorOf(ownerField), ownerField.fieldName);
+    return field == null ? PsiSubstitutor.EMPTY : field.getTargetSubstitutor();
+  }
+
+  /**
+   * 生成节点对应子树的示例 json，需要在读操作中调用
+   */
+  @Nullable
+  private static JsonElement toJson(@NotNull PreviewNode node) {
+    if (node.value != null) {
+      return node.value;
+    }
+    PsiClass owner = node.owner == null ? null : node.owner.getElement();
+    if (owner == null) {
+      return null;
+    }
+    if (node.fieldName == null) {
+      return ConvertToJsonParamUtil.convertJsonObject(owner, false, false);
+    }
+    return ConvertToJsonParamUtil.convertFieldValue(owner, ConvertPreviewPanel.substitutorOf(node),
+        node.fieldName);
+  }
+
+  @Override
+  public void dispose() {
+  }
+
+  /**
+   * 树节点，字段节点通过所在类的指针和字段名在展开时重新定位字段，不持有 PSI
+   */
+  private static class PreviewNode extends DefaultMutableTreeNode {
+
+    /**
+     * 根节点为根类本身，字段节点为字段所在的类，示例值节点为 null
+     */
+    @Nullable
+    private final SmartPsiElementPointer<PsiClass> owner;
+    /**
+     * 根节点和示例值节点为 null
+     */
+    @Nullable
+    private final String fieldName;
+    /**
+     * 枚举值、普通元素的示例值
+     */
+    @Nullable
+    private final JsonElement value;
+    /**
+     * 展开出 owner 的字段节点，用于计算泛型类的类型参数，根类及其字段为 null
+     */
+    @Nullable
+    private final PreviewNode ownerField;
+    private boolean loaded;
+
+    private PreviewNode(@NotNull String label, @Nullable SmartPsiElementPointer<PsiClass> owner,
+        @Nullable String fieldName, @Nullable JsonElement value, boolean expandable,
+        @Nullable PreviewNode ownerField) {
+      super(label, expandable);
+      this.owner = owner;
+      this.fieldName = fieldName;
+      this.value = value;
+      this.ownerField = ownerField;
+    }
+  }
+
+  /**
+   * 复制选中节点子树的示例 json
+   */
+  private class CopySubtreeAction extends DumbAwareAction {
+
+    private CopySubtreeAction() {
+      super("Copy Subtree as JSON");
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent anActionEvent) {
+      anActionEvent.getPresentation().setEnabled(this.getSelectedNode() != null);
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent anActionEvent) {
+      PreviewNode node = this.getSelectedNode();
+      if (node == null) {
+        return;
+      }
+      ReadAction.nonBlocking(() -> ConvertPreviewPanel.toJson(node))
+          .finishOnUiThread(ModalityState.defaultModalityState(), json -> {
+            if (json == null) {
+              ConvertToJsonParamUtil.notify(project, "Class is no longer valid.",
+                  NotificationType.WARNING);
+              return;
+            }
+            String text = ConvertToJsonParamUtil.toJsonText(json);
+            CopyPasteManager.getInstance().setContents(new StringSelection(text));
+            ConvertToJsonParamUtil.notify(project, "Subtree copied to the clipboard.",
+                NotificationType.INFORMATION);
+          })
+          .expireWith(ConvertPreviewPanel.this)
+          .submit(AppExecutorUtil.getAppExecutorService());
+    }
+
+    @Nullable
+    private PreviewNode getSelectedNode() {
+      Object selected = tree.getLastSelectedPathComponent();
+      return selected instanceof PreviewNode ? (PreviewNode) selected : null;
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.wxibm333;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowFactory;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentFactory;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 按需展开的类结构预览，以及跟随光标的实时预览
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 20:00
+ */
+public class ConvertPreviewToolWindowFactory implements ToolWindowFactory {
+
+  @Override
+  public void createToolWindowContent(@NotNull Project project, @NotNull ToolWindow toolWindow) {
+    ContentFactory contentFactory = ContentFactory.SERVICE.getInstance();
+    ConvertPreviewPanel panel = new ConvertPreviewPanel(project);
+    Content content = contentFactory.createContent(panel, "Tree", false);
+    Disposer.register(content, panel);
+    toolWindow.getContentManager().addContent(content);
+    LivePreviewPanel livePanel = new LivePreviewPanel(project);
+    Content liveContent = contentFactory.createContent(livePanel, "Live", false);
+    Disposer.register(liveContent, livePanel);
+    toolWindow.getContentManager().addContent(liveContent);
+  }
+}
@@ -0,0 +1,105 @@
+package com.wxibm333;
+
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.wxibm333.util.ConvertToJsonParamUtil;
+import com.wxibm333.util.SyntheticDataGenerator;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 为光标所在的类批量生成随机数据，写入 JSON Lines 文件
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 20:30
+ */
+public class ConvertToJsonLinesAction extends AnAction {
+
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent anActionEvent) {
+    Project project = anActionEvent.getProject();
+    Editor editor = anActionEvent.getData(CommonDataKeys.EDITOR);
+    PsiFile psiFile = anActionEvent.getData(CommonDataKeys.PSI_FILE);
+    if (project == null || editor == null || psiFile == null) {
+      return;
+    }
+    PsiElement referenceAt = psiFile.findElementAt(editor.getCaretModel().getOffset());
+    PsiClass selectedClass = PsiTreeUtil.getContextOfType(referenceAt, PsiClass.class);
+    if (selectedClass == null) {
+      ConvertToJsonParamUtil.notify(project, "No class at caret.", NotificationType.WARNING);
+      return;
+    }
+    String className = String.valueOf(selectedClass.getName());
+    GenerateRecordsDialog dialog = new GenerateRecordsDialog(project, className);
+    if (!dialog.showAndGet()) {
+      return;
+    }
+    FileSaverDescriptor descriptor = new FileSaverDescriptor("Generate JSON Lines",
+        "Choose the output file", "jsonl");
+    VirtualFileWrapper target = FileChooserFactory.getInstance()
+        .createSaveFileDialog(descriptor, project).save((VirtualFile) null, className + ".jsonl");
+    if (target == null) {
+      return;
+    }
+    File file = target.getFile();
+    long count = dialog.getCount();
+    long seed = dialog.getSeed();
+    SmartPsiElementPointer<PsiClass> classPointer = SmartPointerManager
+        .createPointer(selectedClass);
+    String title = String.format("Generating %d %s records", count, className);
+    ProgressManager.getInstance().run(new Task.Backgroundable(project, title, true) {
+
+      @Override
+      public void run(@NotNull ProgressIndicator indicator) {
+        indicator.setIndeterminate(false);
+        // 类模型只编译一次，生成记录时不再需要读操作
+        SyntheticDataGenerator generator = ReadAction
+            .nonBlocking(() -> SyntheticDataGenerator
+                .compile(Objects.requireNonNull(classPointer.getElement())))
+            .wrapProgress(indicator).expireWith(project).executeSynchronously();
+        try {
+          generator.generate(count, seed, file.toPath(), indicator);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+
+      @Override
+      public void onSuccess() {
+        LocalFileSystem.getInstance().refreshAndFindFileByIoFile(file);
+        ConvertToJsonParamUtil.notify(project,
+            String.format("Generated %d %s records to %s.", count, className, file.getName()),
+            NotificationType.INFORMATION);
+      }
+
+      @Override
+      public void onThrowable(@NotNull Throwable error) {
+        ConvertToJsonParamUtil.notify(project, "Generate JSON Lines failed.",
+            NotificationType.ERROR);
+      }
+    });
+  }
+}
@@ -0,0 +1,114 @@
+package com.wxibm333;
+
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.actionSystem.LangDataKeys;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.fileChooser.FileChooser;
+import com.intellij.openapi.fileChooser.FileChooserDescriptorFactory;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiPackage;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.wxibm333.util.BulkConvertUtil;
+import com.wxibm333.util.ConvertToJsonParamUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 批量转换项目视图中选中的包、目录或模块，每个类输出一个 json 文件
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 15:40
+ */
+public class ConvertToJsonParamBulkAction extends AnAction {
+
+  @Override
+  public void update(@NotNull AnActionEvent anActionEvent) {
+    Project project = anActionEvent.getProject();
+    boolean enabled = project != null
+        && (ConvertToJsonParamBulkAction.getSelectedElements(anActionEvent).length > 0
+        || anActionEvent.getData(LangDataKeys.MODULE_CONTEXT) != null);
+    anActionEvent.getPresentation().setEnabledAndVisible(enabled);
+  }
+
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent anActionEvent) {
+    Project project = anActionEvent.getProject();
+    if (project == null) {
+      return;
+    }
+    PsiElement[] elements = ConvertToJsonParamBulkAction.getSelectedElements(anActionEvent);
+    Module module = anActionEvent.getData(LangDataKeys.MODULE_CONTEXT);
+    VirtualFile outputDirectory = FileChooser
+        .chooseFile(FileChooserDescriptorFactory.createSingleFolderDescriptor(), project, null);
+    if (outputDirectory == null) {
+      return;
+    }
+    Path outputPath = Paths.get(outputDirectory.getPath());
+    ProgressManager.getInstance()
+        .run(new Task.Backgroundable(project, "Converting classes to JSON files", true) {
+
+          private int converted;
+
+          @Override
+          public void run(@NotNull ProgressIndicator indicator) {
+            indicator.setText("Collecting classes");
+            List<SmartPsiElementPointer<PsiClass>> classes = ReadAction
+                .nonBlocking(() -> BulkConvertUtil.collectClasses(project, elements, module))
+                .wrapProgress(indicator).expireWith(project).executeSynchronously();
+            indicator.setText("Converting classes to JSON files");
+            try {
+              converted = BulkConvertUtil
+                  .convertToJsonFiles(project, classes, false, outputPath, indicator);
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          }
+
+          @Override
+          public void onSuccess() {
+            VfsUtil.markDirtyAndRefresh(true, true, true, outputDirectory);
+            String message = String
+                .format("Converted %d classes to JSON files in %s.", converted,
+                    outputDirectory.getPresentableUrl());
+            ConvertToJsonParamUtil.notify(project, message, NotificationType.INFORMATION);
+          }
+
+          @Override
+          public void onThrowable(@NotNull Throwable error) {
+            ConvertToJsonParamUtil
+                .notify(project, "Convert to JSON files failed.", NotificationType.ERROR);
+          }
+        });
+  }
+
+  private static PsiElement[] getSelectedElements(@NotNull AnActionEvent anActionEvent) {
+    PsiElement[] elements = anActionEvent.getData(LangDataKeys.PSI_ELEMENT_ARRAY);
+    if (elements == null) {
+      PsiElement element = anActionEvent.getData(CommonDataKeys.PSI_ELEMENT);
+      elements = element == null ? PsiElement.EMPTY_ARRAY : new PsiElement[]{element};
+    }
+    for (PsiElement element : elements) {
+      if (!(element instanceof PsiDirectory) && !(element instanceof PsiPackage)) {
+        return PsiElement.EMPTY_ARRAY;
+      }
+    }
+    return elements;
+  }
+}
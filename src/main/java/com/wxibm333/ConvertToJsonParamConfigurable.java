@@ -0,0 +1,146 @@
+package com.wxibm333;
+
+import com.intellij.openapi.options.Configurable;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectManager;
+import com.intellij.openapi.ui.ComboBox;
+import com.intellij.ui.JBIntSpinner;
+import com.intellij.ui.TitledSeparator;
+import com.intellij.ui.components.JBCheckBox;
+import com.intellij.util.ui.FormBuilder;
+import com.wxibm333.util.BeanModelUtil;
+import com.wxibm333.util.ConvertToJsonParamSettings;
+import com.wxibm333.util.ConvertToJsonParamSettings.OutputTarget;
+import com.wxibm333.util.JsonFragmentCache;
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 插件配置页面，位于 Settings | Tools | ConvertToJsonParam
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 17:50
+ */
+public class ConvertToJsonParamConfigurable implements Configurable {
+
+  private JBIntSpinner maxDepth;
+  private JBIntSpinner maxNodes;
+  private ComboBox<OutputTarget> outputTarget;
+  private JBIntSpinner clipboardThresholdKb;
+  private JBCheckBox parallelTraversal;
+  private JBCheckBox fastMode;
+  private JBCheckBox minifiedOutput;
+  private JBIntSpinner sampleElements;
+  private JBCheckBox omitEmptyBranches;
+  private JBIntSpinner maxOutputKb;
+
+  @Nls
+  @Override
+  public String getDisplayName() {
+    return "ConvertToJsonParam";
+  }
+
+  @Nullable
+  @Override
+  public JComponent createComponent() {
+    maxDepth = new JBIntSpinner(16, 1, 1000);
+    maxNodes = new JBIntSpinner(5000, 1, Integer.MAX_VALUE);
+    outputTarget = new ComboBox<>(OutputTarget.values());
+    clipboardThresholdKb = new JBIntSpinner(1024, 0, Integer.MAX_VALUE);
+    parallelTraversal = new JBCheckBox("Expand sibling fields in parallel");
+    fastMode = new JBCheckBox("Fast mode: read library classes from stubs only");
+    minifiedOutput = new JBCheckBox("Minified output");
+    sampleElements = new JBIntSpinner(1, 1, 1000);
+    omitEmptyBranches = new JBCheckBox("Omit maps, empty arrays and empty objects");
+    maxOutputKb = new JBIntSpinner(0, 0, Integer.MAX_VALUE);
+    this.reset();
+    return FormBuilder.createFormBuilder()
+        .addLabeledComponent("Max depth:", maxDepth)
+        .addLabeledComponent("Max classes per conversion:", maxNodes)
+        .addLabeledComponent("Output target:", outputTarget)
+        .addLabeledComponent("Clipboard size limit (KB, 0 = unlimited):", clipboardThresholdKb)
+        .addComponent(parallelTraversal)
+        .addComponent(fastMode)
+        .addComponent(new TitledSeparator("Output Profile"))
+        .addComponent(minifiedOutput)
+        .addLabeledComponent("Sample elements per collection:", sampleElements)
+        .addComponent(omitEmptyBranches)
+        .addLabeledComponent("Output size budget (KB, 0 = unlimited):", maxOutputKb)
+        .addComponentFillVertically(new JPanel(), 0)
+        .getPanel();
+  }
+
+  @Override
+  public boolean isModified() {
+    ConvertToJsonParamSettings settings = ConvertToJsonParamSettings.getInstance();
+    return maxDepth.getNumber() != settings.maxDepth
+        || maxNodes.getNumber() != settings.maxNodes
+        || outputTarget.getSelectedItem() != settings.outputTarget
+        || clipboardThresholdKb.getNumber() != settings.clipboardThresholdKb
+        || parallelTraversal.isSelected() != settings.parallelTraversal
+        || fastMode.isSelected() != settings.fastMode
+        || minifiedOutput.isSelected() != settings.minifiedOutput
+        || sampleElements.getNumber() != settings.sampleElements
+        || omitEmptyBranches.isSelected() != settings.omitEmptyBranches
+        || maxOutputKb.getNumber() != settings.maxOutputKb;
+  }
+
+  @Override
+  public void apply() {
+    ConvertToJsonParamSettings settings = ConvertToJsonParamSettings.getInstance();
+    // 类模型和片段缓存的 key 不包含这些配置，修改后需要丢弃已缓存的结果
+    boolean cachesChanged = maxDepth.getNumber() != settings.maxDepth
+        || maxNodes.getNumber() != settings.maxNodes
+        || fastMode.isSelected() != settings.fastMode;
+    settings.maxDepth = maxDepth.getNumber();
+    settings.maxNodes = maxNodes.getNumber();
+    settings.outputTarget = (OutputTarget) outputTarget.getSelectedItem();
+    settings.clipboardThresholdKb = clipboardThresholdKb.getNumber();
+    settings.parallelTraversal = parallelTraversal.isSelected();
+    settings.fastMode = fastMode.isSelected();
+    settings.minifiedOutput = minifiedOutput.isSelected();
+    settings.sampleElements = sampleElements.getNumber();
+    settings.omitEmptyBranches = omitEmptyBranches.isSelected();
+    settings.maxOutputKb = maxOutputKb.getNumber();
+    if (cachesChanged) {
+      BeanModelUtil.dropCachedModels();
+      for (Project project : ProjectManager.getInstance().getOpenProjects()) {
+        if (!project.isDisposed()) {
+          JsonFragmentCache.getInstance(project).clear();
+        }
+      }
+    }
+  }
+
+  @Override
+  public void reset() {
+    ConvertToJsonParamSettings settings = ConvertToJsonParamSettings.getInstance();
+    maxDepth.setNumber(settings.maxDepth);
+    maxNodes.setNumber(settings.maxNodes);
+    outputTarget.setSelectedItem(settings.outputTarget);
+    clipboardThresholdKb.setNumber(settings.clipboardThresholdKb);
+    parallelTraversal.setSelected(settings.parallelTraversal);
+    fastMode.setSelected(settings.fastMode);
+    minifiedOutput.setSelected(settings.minifiedOutput);
+    sampleElements.setNumber(settings.sampleElements);
+    omitEmptyBranches.setSelected(settings.omitEmptyBranches);
+    maxOutputKb.setNumber(settings.maxOutputKb);
+  }
+
+  @Override
+  public void disposeUIResources() {
+    maxDepth = null;
+    maxNodes = null;
+    outputTarget = null;
+    clipboardThresholdKb = null;
+    parallelTraversal = null;
+    fastMode = null;
+    minifiedOutput = null;
+    sampleElements = null;
+    omitEmptyBranches = null;
+    maxOutputKb = null;
+  }
+}
@@ -0,0 +1,58 @@
+package com.wxibm333;
+
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowManager;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.ui.content.Content;
+import com.wxibm333.util.ConvertToJsonParamUtil;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 在预览窗口中按需展开光标所在的类
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 20:00
+ */
+public class ConvertToJsonParamPreviewAction extends AnAction {
+
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent anActionEvent) {
+    Project project = anActionEvent.getProject();
+    Editor editor = anActionEvent.getData(CommonDataKeys.EDITOR);
+    PsiFile psiFile = anActionEvent.getData(CommonDataKeys.PSI_FILE);
+    if (project == null || editor == null || psiFile == null) {
+      return;
+    }
+    PsiElement referenceAt = psiFile.findElementAt(editor.getCaretModel().getOffset());
+    PsiClass selectedClass = PsiTreeUtil.getContextOfType(referenceAt, PsiClass.class);
+    ToolWindow toolWindow = ToolWindowManager.getInstance(project)
+        .getToolWindow(ConvertPreviewPanel.TOOL_WINDOW_ID);
+    if (selectedClass == null || toolWindow == null) {
+      ConvertToJsonParamUtil.notify(project, "No class at caret.", NotificationType.WARNING);
+      return;
+    }
+    SmartPsiElementPointer<PsiClass> classPointer = SmartPointerManager
+        .createPointer(selectedClass);
+    String className = String.valueOf(selectedClass.getName());
+    // 工具窗口首次打开时才创建内容
+    toolWindow.activate(() -> {
+      Content content = toolWindow.getContentManager().getContent(0);
+      if (content != null && content.getComponent() instanceof ConvertPreviewPanel) {
+        toolWindow.getContentManager().setSelectedContent(content);
+        ((ConvertPreviewPanel) content.getComponent()).show(classPointer, className);
+      }
+    });
+  }
+}
@@ -0,0 +1,94 @@
+package com.wxibm333;
+
+import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ApplicationStarter;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.wxibm333.util.IncrementalConvertUtil;
+import com.wxibm333.util.IncrementalConvertUtil.Statistics;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 命令行无界面转换入口，用于 CI 中生成示例 json：
+ * <pre>
+ *   idea convertToJsonParam &lt;项目路径&gt; &lt;输出目录&gt; [--comment] &lt;类全限定名或包名&gt;...
+ * </pre>
+ * 输出目录中保存增量清单，依赖的源文件没有变化的类不会重新转换
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 16:30
+ */
+public class ConvertToJsonParamStarter implements ApplicationStarter {
+
+  private final static String COMMAND_NAME = "convertToJsonParam";
+  private final static String COMMENT_OPTION = "--comment";
+
+  @Override
+  public String getCommandName() {
+    return COMMAND_NAME;
+  }
+
+  @Override
+  public void main(@NotNull String[] args) {
+    if (ApplicationManager.getApplication().isDispatchThread()) {
+      // 打开项目、等待索引都需要 EDT 空闲，在后台线程中执行
+      ApplicationManager.getApplication()
+          .executeOnPooledThread(() -> System.exit(ConvertToJsonParamStarter.run(args)));
+    } else {
+      System.exit(ConvertToJsonParamStarter.run(args));
+    }
+  }
+
+  private static int run(@NotNull String[] args) {
+    boolean isShowComment = false;
+    List<String> positional = new ArrayList<>();
+    // args[0] 为命令名
+    for (int i = 1; i < args.length; i++) {
+      if (COMMENT_OPTION.equals(args[i])) {
+        isShowComment = true;
+      } else {
+        positional.add(args[i]);
+      }
+    }
+    if (positional.size() < 3) {
+      System.err.println("Usage: " + COMMAND_NAME
+          + " <project path> <output directory> [--comment] <class or package>...");
+      return 2;
+    }
+    try {
+      Path projectPath = Paths.get(positional.get(0)).toAbsolutePath();
+      Path outputDirectory = Paths.get(positional.get(1)).toAbsolutePath();
+      List<String> targets = positional.subList(2, positional.size());
+      AtomicReference<Project> projectReference = new AtomicReference<>();
+      ApplicationManager.getApplication().invokeAndWait(() -> projectReference
+          .set(ProjectUtil.openOrImport(projectPath.toString(), null, false)));
+      Project project = projectReference.get();
+      if (project == null) {
+        System.err.println("Cannot open project " + projectPath);
+        return 1;
+      }
+      DumbService.getInstance(project).waitForSmartMode();
+      long start = System.currentTimeMillis();
+      Statistics statistics = IncrementalConvertUtil
+          .convert(project, targets, isShowComment, outputDirectory, new EmptyProgressIndicator());
+      for (String unresolved : statistics.getUnresolved()) {
+        System.err.println("Class or package not found: " + unresolved);
+      }
+      System.out.printf("Converted %d, skipped %d unchanged, failed %d in %d ms.%n",
+          statistics.getConverted(), statistics.getSkipped(), statistics.getFailed(),
+          System.currentTimeMillis() - start);
+      return statistics.getFailed() > 0 || !statistics.getUnresolved().isEmpty() ? 1 : 0;
+    } catch (Throwable e) {
+      e.printStackTrace();
+      return 1;
+    }
+  }
+}
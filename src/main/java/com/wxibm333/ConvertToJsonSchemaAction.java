@@ -0,0 +1,21 @@
+package com.wxibm333;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.wxibm333.util.ConvertToJsonParamUtil;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 转换 JSON Schema
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 19:10
+ */
+public class ConvertToJsonSchemaAction extends AnAction {
+
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent anActionEvent) {
+    ConvertToJsonParamUtil.convertToJsonSchema(anActionEvent);
+  }
+}
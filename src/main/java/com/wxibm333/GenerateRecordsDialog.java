@@ -0,0 +1,45 @@
+package com.wxibm333;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.DialogWrapper;
+import com.intellij.ui.JBIntSpinner;
+import com.intellij.util.ui.FormBuilder;
+import javax.swing.JComponent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 输入随机数据的记录数量和随机数种子
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 20:30
+ */
+public class GenerateRecordsDialog extends DialogWrapper {
+
+  private final JBIntSpinner count = new JBIntSpinner(1000, 1, Integer.MAX_VALUE);
+  private final JBIntSpinner seed = new JBIntSpinner(42, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+  public GenerateRecordsDialog(@NotNull Project project, @NotNull String className) {
+    super(project);
+    this.setTitle("Generate JSON Lines for " + className);
+    this.init();
+  }
+
+  @Nullable
+  @Override
+  protected JComponent createCenterPanel() {
+    return FormBuilder.createFormBuilder()
+        .addLabeledComponent("Records:", count)
+        .addLabeledComponent("Random seed:", seed)
+        .getPanel();
+  }
+
+  public long getCount() {
+    return count.getNumber();
+  }
+
+  public long getSeed() {
+    return seed.getNumber();
+  }
+}
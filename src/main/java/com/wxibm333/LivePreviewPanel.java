@@ -0,0 +1,215 @@
+package com.wxibm333;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.editor.EditorFactory;
+import com.intellij.openapi.editor.event.CaretEvent;
+import com.intellij.openapi.editor.event.CaretListener;
+import com.intellij.openapi.editor.ex.util.EditorUtil;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiTreeChangeAdapter;
+import com.intellij.psi.PsiTreeChangeEvent;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.ui.ScrollPaneFactory;
+import com.intellij.ui.components.JBCheckBox;
+import com.intellij.ui.components.JBTextArea;
+import com.intellij.util.Alarm;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.wxibm333.util.ConvertContext;
+import com.wxibm333.util.ConvertToJsonParamUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 实时预览光标所在类的示例 json，编辑时自动刷新。
+ * <p>
+ * 光标移动和 PSI 修改合并后延迟刷新，只有修改了当前预览依赖的类才会重新生成，依赖取自上一次生成时记录的片段依赖。
+ * 生成在可被写操作打断的后台读操作中执行，{@link com.wxibm333.util.JsonFragmentCache} 只淘汰被修改的类和引用它的类的片段，
+ * 根类由未修改的子片段重新拼接。
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 21:30
+ */
+public class LivePreviewPanel extends SimpleToolWindowPanel implements Disposable {
+
+  private final static int DELAY_MILLIS = 300;
+  private final static Gson GSON = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting()
+      .create();
+
+  private final Project project;
+  private final Alarm alarm = new Alarm(Alarm.ThreadToUse.SWING_THREAD, this);
+  private final JBCheckBox live = new JBCheckBox("Live", true);
+  private final JBTextArea textArea = new JBTextArea();
+  /**
+   * 当前预览的类及其依赖的所有类的全限定名，只在 EDT 中读写
+   */
+  private Set<String> dependencies = Collections.emptySet();
+  private String renderedText = "";
+
+  public LivePreviewPanel(@NotNull Project project) {
+    super(true, true);
+    this.project = project;
+    textArea.setEditable(false);
+    textArea.setFont(EditorUtil.getEditorFont());
+    live.addActionListener(event -> this.scheduleUpdate());
+    EditorFactory.getInstance().getEventMulticaster().addCaretListener(new CaretListener() {
+      @Override
+      public void caretPositionChanged(@NotNull CaretEvent event) {
+        if (event.getEditor().getProject() == project) {
+          LivePreviewPanel.this.scheduleUpdate();
+        }
+      }
+    }, this);
+    PsiManager.getInstance(project).addPsiTreeChangeListener(new ChangeListener(), this);
+    this.setToolbar(live);
+    this.setContent(ScrollPaneFactory.createScrollPane(textArea));
+  }
+
+  /**
+   * 合并短时间内的多次触发，最后一次触发后延迟刷新
+   */
+  private void scheduleUpdate() {
+    if (!live.isSelected()) {
+      return;
+    }
+    alarm.cancelAllRequests();
+    alarm.addRequest(this::update, DELAY_MILLIS);
+  }
+
+  private void update() {
+    // 工具窗口隐藏时不生成，重新显示时由光标移动触发
+    Editor editor = FileEditorManager.getInstance(project).getSelectedTextEditor();
+    if (!this.isShowing() || editor == null) {
+      return;
+    }
+    Document document = editor.getDocument();
+    int offset = editor.getCaretModel().getOffset();
+    ReadAction.nonBlocking(() -> LivePreviewPanel.render(project, document, offset))
+        .withDocumentsCommitted(project)
+        .coalesceBy(this)
+        .expireWith(this)
+        .finishOnUiThread(ModalityState.defaultModalityState(), rendered -> {
+          // 光标不在类中时保留上一次的预览
+          if (rendered == null) {
+            return;
+          }
+          dependencies = rendered.dependencies;
+          if (!rendered.text.equals(renderedText)) {
+            renderedText = rendered.text;
+            textArea.setText(rendered.text);
+            textArea.setCaretPosition(0);
+          }
+        })
+        .submit(AppExecutorUtil.getAppExecutorService());
+  }
+
+  @Nullable
+  private static Rendered render(@NotNull Project project, @NotNull Document document,
+      int offset) {
+    PsiFile psiFile = PsiDocumentManager.getInstance(project).getPsiFile(document);
+    PsiElement referenceAt = psiFile == null ? null : psiFile.findElementAt(offset);
+    PsiClass psiClass = PsiTreeUtil.getContextOfType(referenceAt, PsiClass.class);
+    if (psiClass == null) {
+      return null;
+    }
+    // 片段记录了展开时用到的类（包括父类），命中缓存时直接得到依赖，不需要重新遍历类型图
+    ConvertContext context = new ConvertContext(false, false, true);
+    JsonObject jsonObject;
+    try {
+      jsonObject = ConvertContext.toJsonObject(writer -> ConvertToJsonParamUtil
+          .writeJsonObject(psiClass, false, context, writer));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return new Rendered(GSON.toJson(jsonObject), new HashSet<>(context.getDependencies()));
+  }
+
+  @Override
+  public void dispose() {
+  }
+
+  /**
+   * 一次预览的结果
+   */
+  private static class Rendered {
+
+    private final String text;
+    private final Set<String> dependencies;
+
+    private Rendered(@NotNull String text, @NotNull Set<String> dependencies) {
+      this.text = text;
+      this.dependencies = dependencies;
+    }
+  }
+
+  /**
+   * 只在修改了当前预览依赖的类时刷新
+   */
+  private class ChangeListener extends PsiTreeChangeAdapter {
+
+    @Override
+    public void childAdded(@NotNull PsiTreeChangeEvent event) {
+      this.onChange(event);
+    }
+
+    @Override
+    public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+      this.onChange(event);
+    }
+
+    @Override
+    public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+      this.onChange(event);
+    }
+
+    @Override
+    public void childMoved(@NotNull PsiTreeChangeEvent event) {
+      this.onChange(event);
+    }
+
+    @Override
+    public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+      this.onChange(event);
+    }
+
+    @Override
+    public void propertyChanged(@NotNull PsiTreeChangeEvent event) {
+      this.onChange(event);
+    }
+
+    private void onChange(@NotNull PsiTreeChangeEvent event) {
+      PsiFile file = event.getFile();
+      if (file != null && (!(file instanceof PsiJavaFile) || !file.isPhysical())) {
+        return;
+      }
+      PsiElement element = event.getParent() != null ? event.getParent() : event.getElement();
+      PsiClass psiClass = file == null ? null
+          : PsiTreeUtil.getParentOfType(element, PsiClass.class, false);
+      // 文件级别和类外部的修改可能影响类型解析，无法确定影响范围时总是刷新
+      if (psiClass == null || psiClass.getQualifiedName() == null
+          || dependencies.contains(psiClass.getQualifiedName())) {
+        LivePreviewPanel.this.scheduleUpdate();
+      }
+    }
+  }
+}
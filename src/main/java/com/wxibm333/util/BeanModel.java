@@ -0,0 +1,54 @@
+package com.wxibm333.util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 类模型，包含所有字段模型，枚举类包含枚举值及其注释
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 13:30
+ */
+public class BeanModel {
+
+  private final String qualifiedName;
+  private final String name;
+  private final boolean isEnum;
+  private final List<FieldModel> fields;
+  private final Map<String, String> enumConstants;
+
+  public BeanModel(@NotNull String qualifiedName, @NotNull String name, boolean isEnum,
+      @NotNull List<FieldModel> fields, @NotNull Map<String, String> enumConstants) {
+    this.qualifiedName = qualifiedName;
+    this.name = name;
+    this.isEnum = isEnum;
+    this.fields = Collections.unmodifiableList(fields);
+    this.enumConstants = Collections.unmodifiableMap(enumConstants);
+  }
+
+  public String getQualifiedName() {
+    return qualifiedName;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public List<FieldModel> getFields() {
+    return fields;
+  }
+
+  /**
+   * 枚举值及其注释，按声明顺序排列，非枚举类为空
+   */
+  public Map<String, String> getEnumConstants() {
+    return enumConstants;
+  }
+
+  public boolean isEnum() {
+    return isEnum;
+  }
+}
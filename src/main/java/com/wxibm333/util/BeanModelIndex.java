@@ -0,0 +1,507 @@
+package com.wxibm333.util;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiEnumConstant;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiImportList;
+import com.intellij.psi.PsiImportStatement;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiNameValuePair;
+import com.intellij.psi.PsiTypeElement;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 按 java 文件索引每个类的字段模型，key 为类全限定名。
+ * <p>
+ * 索引在 IDE 正常建立索引时计算，持久化在磁盘上，重启后无需重新解析 PSI。索引阶段不能解析引用，
+ * 因此只保存类型、注解的源码文本以及文件的包名、import 和外部类，查找时再按 java 的命名规则解析，
+ * 见 {@link IndexedBeanModelUtil}。
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 22:30
+ */
+public class BeanModelIndex extends FileBasedIndexExtension<String, BeanModelIndex.IndexedClass> {
+
+  public final static ID<String, IndexedClass> NAME = ID.create("com.wxibm333.BeanModelIndex");
+
+  @NotNull
+  @Override
+  public ID<String, IndexedClass> getName() {
+    return NAME;
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, IndexedClass, FileContent> getIndexer() {
+    return inputData -> {
+      PsiFile psiFile = inputData.getPsiFile();
+      if (!(psiFile instanceof PsiJavaFile)) {
+        return Collections.emptyMap();
+      }
+      PsiJavaFile javaFile = (PsiJavaFile) psiFile;
+      List<String> singleImports = new ArrayList<>();
+      List<String> onDemandImports = new ArrayList<>();
+      PsiImportList importList = javaFile.getImportList();
+      if (importList != null) {
+        for (PsiImportStatement statement : importList.getImportStatements()) {
+          PsiJavaCodeReferenceElement reference = statement.getImportReference();
+          if (reference != null) {
+            (statement.isOnDemand() ? onDemandImports : singleImports)
+                .add(BeanModelIndex.compact(reference.getText()));
+          }
+        }
+      }
+      Map<String, IndexedClass> classes = new HashMap<>();
+      BeanModelIndex.indexClasses(javaFile.getClasses(), javaFile.getPackageName(), singleImports,
+          onDemandImports, classes);
+      return classes;
+    };
+  }
+
+  /**
+   * 只遍历顶层类和内部类，不进入方法体，局部类、匿名类没有全限定名，不需要索引
+   */
+  private static void indexClasses(@NotNull PsiClass[] psiClasses, @NotNull String packageName,
+      @NotNull List<String> singleImports, @NotNull List<String> onDemandImports,
+      @NotNull Map<String, IndexedClass> classes) {
+    for (PsiClass psiClass : psiClasses) {
+      String qualifiedName = psiClass.getQualifiedName();
+      if (qualifiedName == null) {
+        continue;
+      }
+      classes.put(qualifiedName, BeanModelIndex
+          .indexClass(psiClass, packageName, singleImports, onDemandImports));
+      BeanModelIndex.indexClasses(psiClass.getInnerClasses(), packageName, singleImports,
+          onDemandImports, classes);
+    }
+  }
+
+  private static IndexedClass indexClass(@NotNull PsiClass psiClass, @NotNull String packageName,
+      @NotNull List<String> singleImports, @NotNull List<String> onDemandImports) {
+    // 当前类及外部类，用于解析内部类的简单类名
+    List<String> scopes = new ArrayList<>();
+    for (PsiClass scope = psiClass; scope != null; scope = scope.getContainingClass()) {
+      scopes.add(scope.getQualifiedName());
+    }
+    List<String> supertypes = new ArrayList<>();
+    for (PsiJavaCodeReferenceElement reference : psiClass.getExtendsList() == null
+        ? new PsiJavaCodeReferenceElement[0] : psiClass.getExtendsList().getReferenceElements()) {
+      supertypes.add(BeanModelIndex.compact(reference.getText()));
+    }
+    for (PsiJavaCodeReferenceElement reference : psiClass.getImplementsList() == null
+        ? new PsiJavaCodeReferenceElement[0]
+        : psiClass.getImplementsList().getReferenceElements()) {
+      supertypes.add(BeanModelIndex.compact(reference.getText()));
+    }
+    Map<String, String> enumConstants = new LinkedHashMap<>();
+    List<IndexedField> fields = new ArrayList<>();
+    for (PsiField field : psiClass.getFields()) {
+      String comment = JavadocForJsonUtil.extractDescriptionComment(field.getDocComment());
+      if (field instanceof PsiEnumConstant) {
+        enumConstants.put(field.getName(), comment);
+        continue;
+      }
+      PsiTypeElement typeElement = field.getTypeElement();
+      if (typeElement == null) {
+        continue;
+      }
+      fields.add(new IndexedField(field.getName(), BeanModelIndex.compact(typeElement.getText()),
+          comment, BeanModelIndex.indexAnnotations(field.getModifierList())));
+    }
+    return new IndexedClass(packageName, scopes, singleImports, onDemandImports,
+        psiClass.isEnum(), enumConstants, supertypes, fields);
+  }
+
+  private static List<IndexedAnnotation> indexAnnotations(@Nullable PsiModifierList modifiers) {
+    List<IndexedAnnotation> annotations = new ArrayList<>();
+    if (modifiers == null) {
+      return annotations;
+    }
+    for (PsiAnnotation annotation : modifiers.getAnnotations()) {
+      PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+      if (reference == null) {
+        continue;
+      }
+      Map<String, String> attributes = new LinkedHashMap<>();
+      for (PsiNameValuePair pair : annotation.getParameterList().getAttributes()) {
+        PsiAnnotationMemberValue value = pair.getValue();
+        attributes.put(pair.getName() != null ? pair.getName() : "value",
+            value != null ? value.getText() : "");
+      }
+      annotations.add(new IndexedAnnotation(BeanModelIndex.compact(reference.getText()),
+          annotation.getText().substring(1), attributes));
+    }
+    return annotations;
+  }
+
+  /**
+   * 去掉类型文本中的空白和注释，例如 {@code Map<String, List<Item>>} 转换为 {@code Map<String,List<Item>>}
+   */
+  private static String compact(@NotNull String text) {
+    return text.replaceAll("/\\*.*?\\*/|//[^\\n]*|\\s+", "");
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @NotNull
+  @Override
+  public DataExternalizer<IndexedClass> getValueExternalizer() {
+    return new IndexedClassExternalizer();
+  }
+
+  @Override
+  public int getVersion() {
+    return 3;
+  }
+
+  /**
+   * 只索引本地文件系统中的 java 文件，不索引 jar 包中的源码。过滤结果不能依赖项目状态，
+   * 是否为项目源码在查询时判断，见 {@link IndexedBeanModelUtil#buildBeanModel(PsiClass, boolean)}
+   */
+  @NotNull
+  @Override
+  public FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE) {
+      @Override
+      public boolean acceptInput(@NotNull VirtualFile file) {
+        return file.isInLocalFileSystem();
+      }
+    };
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  /**
+   * 索引中的类，类型和注解都是未解析的源码文本
+   */
+  public static class IndexedClass {
+
+    private final String packageName;
+    private final List<String> scopes;
+    private final List<String> singleImports;
+    private final List<String> onDemandImports;
+    private final boolean isEnum;
+    private final Map<String, String> enumConstants;
+    private final List<String> supertypes;
+    private final List<IndexedField> fields;
+
+    private IndexedClass(@NotNull String packageName, @NotNull List<String> scopes,
+        @NotNull List<String> singleImports, @NotNull List<String> onDemandImports,
+        boolean isEnum, @NotNull Map<String, String> enumConstants,
+        @NotNull List<String> supertypes, @NotNull List<IndexedField> fields) {
+      this.packageName = packageName;
+      this.scopes = scopes;
+      this.singleImports = singleImports;
+      this.onDemandImports = onDemandImports;
+      this.isEnum = isEnum;
+      this.enumConstants = enumConstants;
+      this.supertypes = supertypes;
+      this.fields = fields;
+    }
+
+    public String getPackageName() {
+      return packageName;
+    }
+
+    /**
+     * 当前类及所有外部类的全限定名，由内向外排列
+     */
+    public List<String> getScopes() {
+      return scopes;
+    }
+
+    public List<String> getSingleImports() {
+      return singleImports;
+    }
+
+    /**
+     * {@code import a.b.*} 中的 a.b
+     */
+    public List<String> getOnDemandImports() {
+      return onDemandImports;
+    }
+
+    public boolean isEnum() {
+      return isEnum;
+    }
+
+    /**
+     * 枚举值及其 javadoc 描述
+     */
+    public Map<String, String> getEnumConstants() {
+      return enumConstants;
+    }
+
+    /**
+     * extends、implements 的类型文本，父类在前
+     */
+    public List<String> getSupertypes() {
+      return supertypes;
+    }
+
+    /**
+     * 类自身声明的字段，不包括父类字段和枚举值
+     */
+    public List<IndexedField> getFields() {
+      return fields;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof IndexedClass)) {
+        return false;
+      }
+      IndexedClass that = (IndexedClass) o;
+      return isEnum == that.isEnum && packageName.equals(that.packageName)
+          && scopes.equals(that.scopes) && singleImports.equals(that.singleImports)
+          && onDemandImports.equals(that.onDemandImports)
+          && enumConstants.equals(that.enumConstants) && supertypes.equals(that.supertypes)
+          && fields.equals(that.fields);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(packageName, scopes, isEnum, enumConstants, supertypes, fields);
+    }
+  }
+
+  /**
+   * 索引中的字段
+   */
+  public static class IndexedField {
+
+    private final String name;
+    private final String typeText;
+    private final String comment;
+    private final List<IndexedAnnotation> annotations;
+
+    private IndexedField(@NotNull String name, @NotNull String typeText, @NotNull String comment,
+        @NotNull List<IndexedAnnotation> annotations) {
+      this.name = name;
+      this.typeText = typeText;
+      this.comment = comment;
+      this.annotations = annotations;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * 去掉空白的类型源码文本，例如 {@code List<com.demo.Item>}
+     */
+    public String getTypeText() {
+      return typeText;
+    }
+
+    public String getComment() {
+      return comment;
+    }
+
+    public List<IndexedAnnotation> getAnnotations() {
+      return annotations;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof IndexedField)) {
+        return false;
+      }
+      IndexedField that = (IndexedField) o;
+      return name.equals(that.name) && typeText.equals(that.typeText)
+          && comment.equals(that.comment) && annotations.equals(that.annotations);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name, typeText, comment, annotations);
+    }
+  }
+
+  /**
+   * 索引中的注解
+   */
+  public static class IndexedAnnotation {
+
+    private final String reference;
+    private final String text;
+    private final Map<String, String> attributes;
+
+    private IndexedAnnotation(@NotNull String reference, @NotNull String text,
+        @NotNull Map<String, String> attributes) {
+      this.reference = reference;
+      this.text = text;
+      this.attributes = attributes;
+    }
+
+    /**
+     * 注解名称的源码文本，可能是简单类名或全限定名
+     */
+    public String getReference() {
+      return reference;
+    }
+
+    /**
+     * 注解文本，不包含 @ 符号
+     */
+    public String getText() {
+      return text;
+    }
+
+    public Map<String, String> getAttributes() {
+      return attributes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof IndexedAnnotation)) {
+        return false;
+      }
+      IndexedAnnotation that = (IndexedAnnotation) o;
+      return reference.equals(that.reference) && text.equals(that.text)
+          && attributes.equals(that.attributes);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(reference, text, attributes);
+    }
+  }
+
+  /**
+   * 索引值的序列化，修改格式时需要增加 {@link #getVersion()}
+   */
+  private static class IndexedClassExternalizer implements DataExternalizer<IndexedClass> {
+
+    @Override
+    public void save(@NotNull DataOutput out, IndexedClass value) throws IOException {
+      IOUtil.writeUTF(out, value.packageName);
+      IndexedClassExternalizer.writeStrings(out, value.scopes);
+      IndexedClassExternalizer.writeStrings(out, value.singleImports);
+      IndexedClassExternalizer.writeStrings(out, value.onDemandImports);
+      out.writeBoolean(value.isEnum);
+      IndexedClassExternalizer.writeMap(out, value.enumConstants);
+      IndexedClassExternalizer.writeStrings(out, value.supertypes);
+      DataInputOutputUtil.writeINT(out, value.fields.size());
+      for (IndexedField field : value.fields) {
+        IOUtil.writeUTF(out, field.name);
+        IOUtil.writeUTF(out, field.typeText);
+        IOUtil.writeUTF(out, field.comment);
+        DataInputOutputUtil.writeINT(out, field.annotations.size());
+        for (IndexedAnnotation annotation : field.annotations) {
+          IOUtil.writeUTF(out, annotation.reference);
+          IOUtil.writeUTF(out, annotation.text);
+          IndexedClassExternalizer.writeMap(out, annotation.attributes);
+        }
+      }
+    }
+
+    @Override
+    public IndexedClass read(@NotNull DataInput in) throws IOException {
+      String packageName = IOUtil.readUTF(in);
+      List<String> scopes = IndexedClassExternalizer.readStrings(in);
+      List<String> singleImports = IndexedClassExternalizer.readStrings(in);
+      List<String> onDemandImports = IndexedClassExternalizer.readStrings(in);
+      boolean isEnum = in.readBoolean();
+      Map<String, String> enumConstants = IndexedClassExternalizer.readMap(in);
+      List<String> supertypes = IndexedClassExternalizer.readStrings(in);
+      int fieldCount = DataInputOutputUtil.readINT(in);
+      List<IndexedField> fields = new ArrayList<>(fieldCount);
+      for (int i = 0; i < fieldCount; i++) {
+        String name = IOUtil.readUTF(in);
+        String typeText = IOUtil.readUTF(in);
+        String comment = IOUtil.readUTF(in);
+        int annotationCount = DataInputOutputUtil.readINT(in);
+        List<IndexedAnnotation> annotations = new ArrayList<>(annotationCount);
+        for (int j = 0; j < annotationCount; j++) {
+          annotations.add(new IndexedAnnotation(IOUtil.readUTF(in), IOUtil.readUTF(in),
+              IndexedClassExternalizer.readMap(in)));
+        }
+        fields.add(new IndexedField(name, typeText, comment, annotations));
+      }
+      return new IndexedClass(packageName, scopes, singleImports, onDemandImports, isEnum,
+          enumConstants, supertypes, fields);
+    }
+
+    private static void writeStrings(@NotNull DataOutput out, @NotNull List<String> values)
+        throws IOException {
+      DataInputOutputUtil.writeINT(out, values.size());
+      for (String value : values) {
+        IOUtil.writeUTF(out, value);
+      }
+    }
+
+    private static List<String> readStrings(@NotNull DataInput in) throws IOException {
+      int size = DataInputOutputUtil.readINT(in);
+      List<String> values = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        values.add(IOUtil.readUTF(in));
+      }
+      return values;
+    }
+
+    private static void writeMap(@NotNull DataOutput out, @NotNull Map<String, String> values)
+        throws IOException {
+      DataInputOutputUtil.writeINT(out, values.size());
+      for (Map.Entry<String, String> entry : values.entrySet()) {
+        IOUtil.writeUTF(out, entry.getKey());
+        IOUtil.writeUTF(out, entry.getValue());
+      }
+    }
+
+    private static Map<String, String> readMap(@NotNull DataInput in) throws IOException {
+      int size = DataInputOutputUtil.readINT(in);
+      Map<String, String> values = new LinkedHashMap<>();
+      for (int i = 0; i < size; i++) {
+        values.put(IOUtil.readUTF(in), IOUtil.readUTF(in));
+      }
+      return values;
+    }
+  }
+}
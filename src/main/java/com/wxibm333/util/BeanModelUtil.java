@@ -0,0 +1,473 @@
+package com.wxibm333.util;
+
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiArrayType;
+import com.intellij.psi.PsiCapturedWildcardType;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiClassType.ClassResolveResult;
+import com.intellij.psi.PsiCompiledElement;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiEnumConstant;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiPrimitiveType;
+import com.intellij.psi.PsiSubstitutor;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiTypeParameter;
+import com.intellij.psi.PsiWildcardType;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider.Result;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTypesUtil;
+import com.intellij.psi.util.PsiUtil;
+import com.intellij.psi.util.PsiUtilCore;
+import com.intellij.psi.util.TypeConversionUtil;
+import com.wxibm333.util.ConvertMetrics.Phase;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 从 PsiClass 提取类模型，每个类只解析一次，结果缓存在 PsiClass 上并随 PSI 修改失效。
+ * 项目源码中的类优先从 {@link BeanModelIndex} 构建。
+ * <p>
+ * 泛型类按实例化分别建模，例如 {@code Page<UserDto>} 中类型为 T 的字段替换为 UserDto，继承的字段按父类的实例化替换，
+ * 每个（类，类型参数）组合只解析一次
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 13:40
+ */
+public class BeanModelUtil {
+
+  private final static Key<CachedValue<BeanModel>> BEAN_MODEL_KEY = Key
+      .create("ConvertToJsonParam.BeanModel");
+  private final static Key<CachedValue<BeanModel>> BEAN_MODEL_WITH_COMMENT_KEY = Key
+      .create("ConvertToJsonParam.BeanModelWithComment");
+  private final static Key<CachedValue<Map<String, BeanModel>>> INSTANCES_KEY = Key
+      .create("ConvertToJsonParam.BeanModelInstances");
+  private final static Key<CachedValue<Map<String, BeanModel>>> INSTANCES_WITH_COMMENT_KEY = Key
+      .create("ConvertToJsonParam.BeanModelInstancesWithComment");
+  /**
+   * 影响类模型的配置（例如快速模式）修改后递增，使缓存的类模型失效
+   */
+  private final static SimpleModificationTracker SETTINGS_MODIFICATION =
+      new SimpleModificationTracker();
+  /**
+   * 当前线程正在获取的类模型所属的转换
+   */
+  private final static ThreadLocal<BuildScope> BUILD_SCOPE = new ThreadLocal<>();
+
+  /**
+   * 配置修改后丢弃所有缓存的类模型，下次转换时按新配置重新构建
+   *
+   * @author wangXin
+   * @date 2026-10-17 23:50
+   */
+  public static void dropCachedModels() {
+    SETTINGS_MODIFICATION.incModificationCount();
+  }
+
+  /**
+   * 获取类模型
+   *
+   * @param psiClass    class对象
+   * @param withComment 是否提取 javadoc 注释，不需要注释时跳过 javadoc 解析
+   * @return com.wxibm333.util.BeanModel
+   * @author wangXin
+   * @date 2026-10-17 13:40
+   */
+  public static BeanModel getBeanModel(@NotNull PsiClass psiClass, boolean withComment) {
+    return BeanModelUtil.getBeanModel(psiClass, withComment, null);
+  }
+
+  /**
+   * 获取类模型，缓存未命中时把构建耗时、解析次数计入 metrics，命中时计入类模型缓存命中次数。
+   * 缓存的计算方法在第一次调用时创建并一直复用，不能捕获本次转换的 metrics，通过 {@link #BUILD_SCOPE} 传入
+   *
+   * @param psiClass    class对象
+   * @param withComment 是否提取 javadoc 注释
+   * @param metrics     本次转换的统计信息
+   * @return com.wxibm333.util.BeanModel
+   * @author wangXin
+   * @date 2026-10-17 17:30
+   */
+  public static BeanModel getBeanModel(@NotNull PsiClass psiClass, boolean withComment,
+      @Nullable ConvertMetrics metrics) {
+    Key<CachedValue<BeanModel>> key = withComment ? BEAN_MODEL_WITH_COMMENT_KEY : BEAN_MODEL_KEY;
+    BuildScope previous = BUILD_SCOPE.get();
+    // 嵌套构建（例如父类模型）计入外层调用的转换
+    BuildScope scope = new BuildScope(metrics != null ? metrics
+        : previous != null ? previous.metrics : null);
+    BUILD_SCOPE.set(scope);
+    BeanModel beanModel;
+    try {
+      beanModel = CachedValuesManager.getManager(psiClass.getProject()).getCachedValue(psiClass,
+          key, () -> {
+            BuildScope current = BUILD_SCOPE.get();
+            current.built = true;
+            long start = System.nanoTime();
+            // 项目源码优先从持久化索引构建，重启后也不需要重新解析 PSI
+            BeanModel model = IndexedBeanModelUtil.buildBeanModel(psiClass, withComment);
+            if (model == null) {
+              model = BeanModelUtil
+                  .buildBeanModel(psiClass, PsiSubstitutor.EMPTY, withComment, current.metrics);
+            }
+            if (current.metrics != null) {
+              current.metrics.addModelBuild(System.nanoTime() - start);
+            }
+            return Result.create(model, PsiModificationTracker.MODIFICATION_COUNT,
+                SETTINGS_MODIFICATION);
+          }, false);
+    } finally {
+      BUILD_SCOPE.set(previous);
+    }
+    if (!scope.built && scope.metrics != null) {
+      scope.metrics.incrementModelCacheHits();
+    }
+    return beanModel;
+  }
+
+  /**
+   * 获取泛型类实例化后的类模型，非泛型类、原始类型与 {@link #getBeanModel(PsiClass, boolean, ConvertMetrics)}
+   * 相同。同一个类的每种类型参数组合只解析一次，结果缓存在 PsiClass 上并随 PSI 修改失效
+   *
+   * @param psiClass    class对象
+   * @param substitutor 类型参数到实际类型的映射，例如 {@link FieldModel#getTargetSubstitutor()}
+   * @param withComment 是否提取 javadoc 注释
+   * @param metrics     本次转换的统计信息
+   * @return com.wxibm333.util.BeanModel
+   * @author wangXin
+   * @date 2026-10-17 23:00
+   */
+  public static BeanModel getBeanModel(@NotNull PsiClass psiClass,
+      @NotNull PsiSubstitutor substitutor, boolean withComment, @Nullable ConvertMetrics metrics) {
+    String instanceKey = BeanModelUtil.instanceKey(psiClass, substitutor);
+    if (instanceKey == null) {
+      return BeanModelUtil.getBeanModel(psiClass, withComment, metrics);
+    }
+    Key<CachedValue<Map<String, BeanModel>>> key = withComment ? INSTANCES_WITH_COMMENT_KEY
+        : INSTANCES_KEY;
+    Map<String, BeanModel> instances = CachedValuesManager.getManager(psiClass.getProject())
+        .getCachedValue(psiClass, key, () -> Result.create(
+            new ConcurrentHashMap<String, BeanModel>(),
+            PsiModificationTracker.MODIFICATION_COUNT, SETTINGS_MODIFICATION), false);
+    BeanModel beanModel = instances.get(instanceKey);
+    if (beanModel == null) {
+      long start = System.nanoTime();
+      beanModel = BeanModelUtil.buildBeanModel(psiClass, substitutor, withComment, metrics);
+      if (metrics != null) {
+        metrics.addModelBuild(System.nanoTime() - start);
+      }
+      BeanModel previous = instances.putIfAbsent(instanceKey, beanModel);
+      if (previous != null) {
+        beanModel = previous;
+      }
+    } else if (metrics != null) {
+      metrics.incrementModelCacheHits();
+    }
+    return beanModel;
+  }
+
+  /**
+   * 类实例化后的名称，例如 {@code com.example.Page<com.example.UserDto>}，非泛型类、原始类型为全限定名
+   *
+   * @param psiClass    class对象
+   * @param substitutor 类型参数到实际类型的映射
+   * @return java.lang.String 没有全限定名时使用类名
+   * @author wangXin
+   * @date 2026-10-17 23:00
+   */
+  public static String instanceName(@NotNull PsiClass psiClass,
+      @NotNull PsiSubstitutor substitutor) {
+    String qualifiedName = psiClass.getQualifiedName();
+    String name = qualifiedName != null ? qualifiedName : String.valueOf(psiClass.getName());
+    String instanceKey = BeanModelUtil.instanceKey(psiClass, substitutor);
+    return instanceKey == null ? name : name + '<' + instanceKey + '>';
+  }
+
+  /**
+   * 类型参数的实际类型文本，原始类型或者类型参数都没有被替换时返回 null
+   */
+  @Nullable
+  private static String instanceKey(@NotNull PsiClass psiClass,
+      @NotNull PsiSubstitutor substitutor) {
+    if (substitutor == PsiSubstitutor.EMPTY) {
+      return null;
+    }
+    List<String> arguments = new ArrayList<>();
+    boolean substituted = false;
+    for (PsiTypeParameter typeParameter : PsiUtil.typeParametersIterable(psiClass)) {
+      PsiType argument = substitutor.substitute(typeParameter);
+      if (argument == null) {
+        return null;
+      }
+      substituted |= !typeParameter.equals(PsiUtil.resolveClassInClassTypeOnly(argument));
+      arguments.add(argument.getCanonicalText());
+    }
+    return substituted ? String.join(",", arguments) : null;
+  }
+
+  /**
+   * 收集类及其字段引用到的所有枚举、实体类型，包括数组、集合的元素类型，以及这些类的父类（继承的字段同样会输出）
+   *
+   * @param psiClass    class对象
+   * @param withComment 是否提取 javadoc 注释
+   * @return java.util.Set 包含 psiClass 自身
+   * @author wangXin
+   * @date 2026-10-17 16:10
+   */
+  public static Set<PsiClass> collectDependencies(@NotNull PsiClass psiClass,
+      boolean withComment) {
+    Set<PsiClass> dependencies = new LinkedHashSet<>();
+    // 同一个泛型类的不同实例化包含不同的类型，需要分别遍历
+    Set<String> visited = new HashSet<>();
+    Deque<Pair<PsiClass, PsiSubstitutor>> queue = new ArrayDeque<>();
+    int maxNodes = ConvertToJsonParamSettings.getInstance().maxNodes;
+    dependencies.add(psiClass);
+    visited.add(BeanModelUtil.instanceName(psiClass, PsiSubstitutor.EMPTY));
+    queue.add(Pair.create(psiClass, PsiSubstitutor.EMPTY));
+    while (!queue.isEmpty()) {
+      ProgressManager.checkCanceled();
+      Pair<PsiClass, PsiSubstitutor> instance = queue.poll();
+      dependencies.addAll(InheritanceUtil.getSuperClasses(instance.first));
+      BeanModel beanModel = BeanModelUtil
+          .getBeanModel(instance.first, instance.second, withComment, null);
+      for (FieldModel field : beanModel.getFields()) {
+        PsiClass targetClass = field.getTargetClass();
+        PsiSubstitutor targetSubstitutor = field.getTargetSubstitutor();
+        // 类型参数不断嵌套的泛型类（例如 Node<List<T>>）实例化无穷多，超出展开上限后不再遍历
+        if (targetClass != null && visited.size() < maxNodes
+            && visited.add(BeanModelUtil.instanceName(targetClass, targetSubstitutor))) {
+          dependencies.add(targetClass);
+          queue.add(Pair.create(targetClass, targetSubstitutor));
+        }
+      }
+    }
+    return dependencies;
+  }
+
+  private static BeanModel buildBeanModel(@NotNull PsiClass psiClass,
+      @NotNull PsiSubstitutor substitutor, boolean withComment,
+      @Nullable ConvertMetrics metrics) {
+    boolean isEnum = psiClass.isEnum();
+    boolean fastMode = ConvertToJsonParamSettings.getInstance().fastMode;
+    List<FieldModel> fields = new ArrayList<>();
+    Map<String, String> enumConstants = new LinkedHashMap<>();
+    Map<PsiClass, PsiSubstitutor> superSubstitutors = new HashMap<>();
+    for (PsiField field : psiClass.getAllFields()) {
+      ProgressManager.checkCanceled();
+      if (field instanceof PsiEnumConstant) {
+        enumConstants.put(field.getName(), BeanModelUtil.extractComment(field,
+            withComment, fastMode));
+      } else if (!isEnum) {
+        PsiType type = BeanModelUtil
+            .substituteFieldType(psiClass, substitutor, field, superSubstitutors);
+        fields.add(BeanModelUtil.buildFieldModel(field, type, withComment, fastMode, metrics));
+      }
+    }
+    String qualifiedName = psiClass.getQualifiedName();
+    String name = String.valueOf(psiClass.getName());
+    return new BeanModel(qualifiedName != null ? qualifiedName : name, name, isEnum, fields,
+        enumConstants);
+  }
+
+  /**
+   * 按类的实例化替换字段类型中的类型参数，继承的字段按父类的实例化替换，
+   * 例如 {@code class UserPage extends Page<UserDto>} 中继承的 {@code List<T>} 替换为 {@code List<UserDto>}
+   */
+  private static PsiType substituteFieldType(@NotNull PsiClass psiClass,
+      @NotNull PsiSubstitutor substitutor, @NotNull PsiField field,
+      @NotNull Map<PsiClass, PsiSubstitutor> superSubstitutors) {
+    PsiType type = field.getType();
+    PsiClass containingClass = field.getContainingClass();
+    if (containingClass == null
+        || !PsiUtil.typeParametersIterable(containingClass).iterator().hasNext()) {
+      return type;
+    }
+    PsiSubstitutor fieldSubstitutor = containingClass.equals(psiClass) ? substitutor
+        : superSubstitutors.computeIfAbsent(containingClass, superClass -> TypeConversionUtil
+            .getSuperClassSubstitutor(superClass, psiClass, substitutor));
+    PsiType substituted = fieldSubstitutor.substitute(type);
+    return substituted != null ? substituted : type;
+  }
+
+  /**
+   * 提取字段模型
+   *
+   * @param field       字段对象
+   * @param withComment 是否提取 javadoc 注释
+   * @return com.wxibm333.util.FieldModel
+   * @author wangXin
+   * @date 2026-10-17 13:40
+   */
+  public static FieldModel buildFieldModel(@NotNull PsiField field, boolean withComment) {
+    return BeanModelUtil.buildFieldModel(field, field.getType(), withComment,
+        ConvertToJsonParamSettings.getInstance().fastMode, null);
+  }
+
+  private static FieldModel buildFieldModel(@NotNull PsiField field, @NotNull PsiType fieldType,
+      boolean withComment, boolean fastMode, @Nullable ConvertMetrics metrics) {
+    PsiType type = BeanModelUtil.upperBound(fieldType);
+    String name = field.getName();
+    String typeText = type.getPresentableText();
+    long docStart = System.nanoTime();
+    String comment = BeanModelUtil.extractComment(field, withComment, fastMode);
+    List<ValidationModel> validations = JavadocForJsonUtil.extractValidations(field, fastMode);
+    if (metrics != null) {
+      metrics.addPhaseNanos(Phase.DOC, System.nanoTime() - docStart);
+    }
+    if (type instanceof PsiPrimitiveType) {
+      return new FieldModel(name, typeText, TypeKind.NORMAL, TypeKind.NORMAL, null,
+          PsiTypesUtil.getDefaultValue(type), comment, validations);
+    }
+    if (type instanceof PsiArrayType) {
+      // 数组处理，取最内层的元素类型
+      PsiType componentType = type.getDeepComponentType();
+      if (componentType instanceof PsiPrimitiveType) {
+        return new FieldModel(name, typeText, TypeKind.ARRAY, TypeKind.NORMAL, null,
+            PsiTypesUtil.getDefaultValue(componentType), comment, validations);
+      }
+      ClassResolveResult componentResult = BeanModelUtil.resolveGenerics(componentType, metrics);
+      return BeanModelUtil.buildElementFieldModel(name, typeText, TypeKind.ARRAY,
+          componentResult.getElement(), componentResult.getSubstitutor(), comment, validations);
+    }
+    ClassResolveResult resolveResult = BeanModelUtil.resolveGenerics(type, metrics);
+    PsiClass resolveClass = resolveResult.getElement();
+    switch (TypeClassifier.classify(resolveClass)) {
+      case NORMAL:
+        return new FieldModel(name, typeText, TypeKind.NORMAL, TypeKind.NORMAL, null,
+            ToolsUtil.getDefaultValue(resolveClass), comment, validations);
+      case ENUM:
+        return new FieldModel(name, typeText, TypeKind.ENUM, TypeKind.ENUM, resolveClass, null,
+            comment, validations);
+      case COLLECTION:
+        // 集合类型处理，提取集合类泛型类型
+        PsiType elementType = PsiUtil.extractIterableTypeParameter(type, false);
+        ClassResolveResult elementResult = BeanModelUtil.resolveGenerics(elementType, metrics);
+        return BeanModelUtil.buildElementFieldModel(name, typeText, TypeKind.COLLECTION,
+            elementResult.getElement(), elementResult.getSubstitutor(), comment, validations);
+      case MAP:
+        return new FieldModel(name, typeText, TypeKind.MAP, TypeKind.UNKNOWN, null, null,
+            comment, validations);
+      case BEAN:
+        return new FieldModel(name, typeText, TypeKind.BEAN, TypeKind.BEAN, resolveClass,
+            resolveResult.getSubstitutor(), null, comment, validations);
+      default:
+        return new FieldModel(name, typeText, TypeKind.UNKNOWN, TypeKind.UNKNOWN, null, null,
+            comment, validations);
+    }
+  }
+
+  /**
+   * 提取字段的 javadoc 描述。快速模式下只读取项目源码中的 javadoc，javadoc 不在 stub 中，
+   * 读取源码会加载语法树，读取库中的类会触发反编译
+   */
+  private static String extractComment(@NotNull PsiField field, boolean withComment,
+      boolean fastMode) {
+    if (!withComment || fastMode && !BeanModelUtil.isProjectSource(field)) {
+      return "";
+    }
+    return JavadocForJsonUtil.extractDescriptionComment(field.getDocComment());
+  }
+
+  /**
+   * 判断元素是否来自项目源码，库中的类（包括反编译的类）返回 false
+   *
+   * @param element 字段、类等元素
+   * @return boolean
+   * @author wangXin
+   * @date 2026-10-17 19:10
+   */
+  public static boolean isProjectSource(@NotNull PsiElement element) {
+    if (element instanceof PsiCompiledElement) {
+      return false;
+    }
+    VirtualFile file = PsiUtilCore.getVirtualFile(element);
+    return file != null && ProjectFileIndex.getInstance(element.getProject())
+        .isInSourceContent(file);
+  }
+
+  /**
+   * 解析类型对应的类及其类型参数，通配符取上界
+   */
+  private static ClassResolveResult resolveGenerics(@Nullable PsiType type,
+      @Nullable ConvertMetrics metrics) {
+    if (metrics != null) {
+      metrics.incrementResolveCalls();
+    }
+    PsiType bound = BeanModelUtil.upperBound(type);
+    return bound instanceof PsiClassType ? ((PsiClassType) bound).resolveGenerics()
+        : ClassResolveResult.EMPTY;
+  }
+
+  /**
+   * 通配符取上界，例如 {@code ? extends Item} 取 Item，其他类型原样返回
+   */
+  private static PsiType upperBound(@Nullable PsiType type) {
+    if (type instanceof PsiWildcardType) {
+      return ((PsiWildcardType) type).getExtendsBound();
+    }
+    if (type instanceof PsiCapturedWildcardType) {
+      return ((PsiCapturedWildcardType) type).getUpperBound();
+    }
+    return type;
+  }
+
+  static FieldModel buildElementFieldModel(String name, String typeText, TypeKind kind,
+      @Nullable PsiClass elementClass, String comment, List<ValidationModel> validations) {
+    return BeanModelUtil.buildElementFieldModel(name, typeText, kind, elementClass,
+        PsiSubstitutor.EMPTY, comment, validations);
+  }
+
+  private static FieldModel buildElementFieldModel(String name, String typeText, TypeKind kind,
+      @Nullable PsiClass elementClass, @NotNull PsiSubstitutor elementSubstitutor, String comment,
+      List<ValidationModel> validations) {
+    switch (TypeClassifier.classify(elementClass)) {
+      case NORMAL:
+        return new FieldModel(name, typeText, kind, TypeKind.NORMAL, null,
+            ToolsUtil.getDefaultValue(elementClass), comment, validations);
+      case ENUM:
+        return new FieldModel(name, typeText, kind, TypeKind.ENUM, elementClass, null, comment,
+            validations);
+      case BEAN:
+        return new FieldModel(name, typeText, kind, TypeKind.BEAN, elementClass,
+            elementSubstitutor, null, comment, validations);
+      default:
+        // 嵌套的集合、Map 以及无法解析的元素类型不展开
+        return new FieldModel(name, typeText, kind, TypeKind.UNKNOWN, null, null, comment,
+            validations);
+    }
+  }
+
+  /**
+   * 一次获取类模型的调用，记录统计信息的归属以及缓存是否未命中
+   */
+  private static class BuildScope {
+
+    @Nullable
+    private final ConvertMetrics metrics;
+    private boolean built;
+
+    private BuildScope(@Nullable ConvertMetrics metrics) {
+      this.metrics = metrics;
+    }
+  }
+}
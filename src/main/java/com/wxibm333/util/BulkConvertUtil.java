@@ -0,0 +1,164 @@
+package com.wxibm333.util;
+
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaDirectoryService;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiPackage;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.search.GlobalSearchScope;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 批量把包、目录、模块下的类转换成 json 文件
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 15:30
+ */
+public class BulkConvertUtil {
+
+  /**
+   * 收集包、目录、模块下所有需要转换的类，包括内部类，跳过接口、注解和枚举。需要在读操作中调用
+   *
+   * @param project  当前项目
+   * @param elements 选中的包、目录
+   * @param module   选中的模块
+   * @return java.util.List
+   * @author wangXin
+   * @date 2026-10-17 15:30
+   */
+  public static List<SmartPsiElementPointer<PsiClass>> collectClasses(@NotNull Project project,
+      @NotNull PsiElement[] elements, @Nullable Module module) {
+    // 选中模块时，选中元素中已经包含模块的源码目录，同一个类只转换一次
+    Set<PsiClass> classes = new LinkedHashSet<>();
+    for (PsiElement element : elements) {
+      if (element instanceof PsiDirectory) {
+        BulkConvertUtil.collectClasses((PsiDirectory) element, classes);
+      } else if (element instanceof PsiPackage) {
+        BulkConvertUtil
+            .collectClasses((PsiPackage) element, GlobalSearchScope.projectScope(project), classes);
+      } else if (element instanceof PsiClass) {
+        BulkConvertUtil.collectClasses((PsiClass) element, classes);
+      }
+    }
+    if (module != null) {
+      PsiManager psiManager = PsiManager.getInstance(project);
+      for (VirtualFile sourceRoot : ModuleRootManager.getInstance(module).getSourceRoots(false)) {
+        PsiDirectory directory = psiManager.findDirectory(sourceRoot);
+        if (directory != null) {
+          BulkConvertUtil.collectClasses(directory, classes);
+        }
+      }
+    }
+    List<SmartPsiElementPointer<PsiClass>> pointers = new ArrayList<>(classes.size());
+    for (PsiClass psiClass : classes) {
+      pointers.add(SmartPointerManager.createPointer(psiClass));
+    }
+    return pointers;
+  }
+
+  private static void collectClasses(@NotNull PsiDirectory directory,
+      @NotNull Set<PsiClass> classes) {
+    ProgressManager.checkCanceled();
+    for (PsiClass psiClass : JavaDirectoryService.getInstance().getClasses(directory)) {
+      BulkConvertUtil.collectClasses(psiClass, classes);
+    }
+    for (PsiDirectory subdirectory : directory.getSubdirectories()) {
+      BulkConvertUtil.collectClasses(subdirectory, classes);
+    }
+  }
+
+  private static void collectClasses(@NotNull PsiPackage psiPackage,
+      @NotNull GlobalSearchScope scope, @NotNull Set<PsiClass> classes) {
+    ProgressManager.checkCanceled();
+    for (PsiClass psiClass : psiPackage.getClasses(scope)) {
+      BulkConvertUtil.collectClasses(psiClass, classes);
+    }
+    for (PsiPackage subPackage : psiPackage.getSubPackages(scope)) {
+      BulkConvertUtil.collectClasses(subPackage, scope, classes);
+    }
+  }
+
+  private static void collectClasses(@NotNull PsiClass psiClass, @NotNull Set<PsiClass> classes) {
+    if (BulkConvertUtil.isBean(psiClass)) {
+      classes.add(psiClass);
+    }
+    for (PsiClass innerClass : psiClass.getInnerClasses()) {
+      BulkConvertUtil.collectClasses(innerClass, classes);
+    }
+  }
+
+  public static boolean isBean(@NotNull PsiClass psiClass) {
+    return !psiClass.isInterface() && !psiClass.isAnnotationType() && !psiClass.isEnum()
+        && psiClass.getQualifiedName() != null;
+  }
+
+  /**
+   * 多线程并发转换，每个类在独立的非阻塞读操作中转换，并写入 outputDirectory 下的 {@code 全限定名.json} 文件
+   *
+   * @param project         当前项目
+   * @param classes         需要转换的类
+   * @param isShowComment   是否携带注释
+   * @param outputDirectory 输出目录
+   * @param indicator       进度条
+   * @return int 转换成功的类数量
+   * @author wangXin
+   * @date 2026-10-17 15:30
+   */
+  public static int convertToJsonFiles(@NotNull Project project,
+      @NotNull List<SmartPsiElementPointer<PsiClass>> classes, boolean isShowComment,
+      @NotNull Path outputDirectory, @NotNull ProgressIndicator indicator) throws IOException {
+    Files.createDirectories(outputDirectory);
+    int total = classes.size();
+    long start = System.nanoTime();
+    AtomicInteger processed = new AtomicInteger();
+    AtomicInteger converted = new AtomicInteger();
+    indicator.setIndeterminate(false);
+    JobLauncher.getInstance().invokeConcurrentlyUnderProgress(classes, indicator, pointer -> {
+      Boolean written = ReadAction.nonBlocking(() -> {
+        PsiClass psiClass = pointer.getElement();
+        if (psiClass == null) {
+          return false;
+        }
+        Path file = outputDirectory.resolve(psiClass.getQualifiedName() + ".json");
+        try {
+          ConvertToJsonParamUtil.writeJsonFile(psiClass, isShowComment, file);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        return true;
+      }).expireWith(project).executeSynchronously();
+      if (Boolean.TRUE.equals(written)) {
+        converted.incrementAndGet();
+      }
+      int count = processed.incrementAndGet();
+      double seconds = Math.max((System.nanoTime() - start) / 1e9, 1e-3);
+      indicator.setFraction((double) count / total);
+      indicator.setText2(String
+          .format("%d/%d classes, %.1f classes/s", count, total, count / seconds));
+      return true;
+    });
+    return converted.get();
+  }
+}
@@ -0,0 +1,129 @@
+package com.wxibm333.util;
+
+import com.intellij.notification.Notification;
+import com.intellij.notification.NotificationListener;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import java.awt.Toolkit;
+import java.awt.datatransfer.Clipboard;
+import java.awt.datatransfer.StringSelection;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import javax.swing.event.HyperlinkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 输出到系统剪贴板。输出超过阈值时不再写剪贴板，改为写入 IDE scratch 文件，通知中提供打开文件的链接
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 14:40
+ */
+public class ClipboardJsonSink implements JsonSink {
+
+  private final ScratchFileJsonSink scratchFileSink;
+  private final long threshold;
+  private StringWriter buffer;
+  private boolean spilled;
+
+  /**
+   * @param fileName  超过阈值时使用的 scratch 文件名
+   * @param threshold 剪贴板最多容纳的 UTF-8 字节数，小于等于 0 时不限制
+   */
+  public ClipboardJsonSink(@NotNull String fileName, long threshold) {
+    this.scratchFileSink = new ScratchFileJsonSink(fileName);
+    this.threshold = threshold;
+  }
+
+  @NotNull
+  @Override
+  public Writer openWriter() {
+    buffer = new StringWriter();
+    spilled = false;
+    return new SpillingWriter();
+  }
+
+  @NotNull
+  @Override
+  public String complete(@NotNull Project project, @NotNull String className) {
+    if (spilled) {
+      LocalFileSystem.getInstance().refreshAndFindFileByIoFile(scratchFileSink.getPath().toFile());
+      return String.format("Convert %s to JSON success, the output is larger than %d KB "
+              + "and was written to scratch file <a href=\"open\">%s</a>.", className,
+          threshold / 1024, scratchFileSink.getPath().getFileName());
+    }
+    StringSelection selection = new StringSelection(buffer.toString());
+    Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
+    clipboard.setContents(selection, selection);
+    buffer = null;
+    return String.format("Convert %s to JSON success, copied to clipboard.", className);
+  }
+
+  @Nullable
+  @Override
+  public NotificationListener getNotificationListener(@NotNull Project project) {
+    if (!spilled) {
+      return null;
+    }
+    // 点击链接时才在编辑器中打开，避免大文件立即加载到编辑器
+    return new NotificationListener.Adapter() {
+      @Override
+      protected void hyperlinkActivated(@NotNull Notification notification,
+          @NotNull HyperlinkEvent event) {
+        VirtualFile file = LocalFileSystem.getInstance()
+            .refreshAndFindFileByIoFile(scratchFileSink.getPath().toFile());
+        if (file != null && !project.isDisposed()) {
+          FileEditorManager.getInstance(project).openFile(file, true);
+        }
+      }
+    };
+  }
+
+  /**
+   * 先写入内存，超过阈值时把已写内容转存到 scratch 文件，之后直接写文件
+   */
+  private class SpillingWriter extends Writer {
+
+    private Writer file;
+    private long bytes;
+
+    @Override
+    public void write(@NotNull char[] chars, int offset, int length) throws IOException {
+      if (file == null && threshold > 0) {
+        // 阈值按 KB 配置，中文等多字节字符按 UTF-8 字节数计算
+        for (int i = offset; i < offset + length; i++) {
+          bytes += ConvertMetrics.utf8Length(chars[i]);
+        }
+      }
+      if (file == null && threshold > 0 && bytes > threshold) {
+        file = scratchFileSink.openWriter();
+        file.write(buffer.toString());
+        buffer = null;
+        spilled = true;
+      }
+      if (file != null) {
+        file.write(chars, offset, length);
+      } else {
+        buffer.write(chars, offset, length);
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      if (file != null) {
+        file.flush();
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (file != null) {
+        file.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,739 @@
+package com.wxibm333.util;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiSubstitutor;
+import com.intellij.psi.util.InheritanceUtil;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 单次转换的遍历上下文。
+ * <p>
+ * 记录当前展开路径用于检测循环引用，遇到循环时输出 {@code {"$ref": "类名"}}；树形输出时同一次输出中重复出现的类型只展开一次，
+ * 泛型类的每种实例化（例如 {@code Page<UserDto>}、{@code Page<OrderDto>}）按不同类型处理；
+ * 展开深度和展开类数量受 {@link ConvertToJsonParamSettings} 限制，输出大小受 {@link OutputProfile} 限制，
+ * 超出时输出 {@code {"$truncated": "类名"}}。
+ * <p>
+ * 开启并行展开时，靠近根节点的兄弟子树通过 {@link #fork(List, Expander)} 在多个线程中预先生成，
+ * 只有自包含的片段（与展开路径无关）会在线程间共享，之后仍按字段顺序写出，输出与串行展开一致。
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 11:10
+ */
+public class ConvertContext {
+
+  public final static String REF_KEY = "$ref";
+  public final static String TRUNCATED_KEY = "$truncated";
+
+  /**
+   * 只在前几层并行展开，更深的子树规模小，拆分任务的开销大于收益
+   */
+  private final static int PARALLEL_DEPTH = 3;
+  private final static Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+  private final static Gson PRETTY_GSON = new GsonBuilder().disableHtmlEscaping()
+      .setPrettyPrinting().create();
+
+  private final boolean withComment;
+  private final boolean ignore;
+  private final boolean collectFragments;
+  private final boolean parallel;
+  private final int maxDepth;
+  private final int maxNodes;
+  @Nullable
+  private final ConvertMetrics metrics;
+  private final OutputProfile profile;
+  private final List<Frame> path = new ArrayList<>();
+  private final Map<String, Expanded> expanded = new HashMap<>();
+  /**
+   * 本次转换中所有线程生成的自包含片段
+   */
+  private final Map<String, Expanded> shared;
+  /**
+   * 本上下文计入展开数量的类实例化。并行展开的子上下文各自计数，父上下文使用共享片段时才计入片段中新出现的类，
+   * 计数与串行展开一致
+   */
+  private final Set<String> counted;
+  private int nodeCount;
+  /**
+   * 省略空分支时已经判断过的类是否展开为空对象，以及正在判断的类
+   */
+  private final Map<String, Boolean> emptyObjects = new HashMap<>();
+  private final Set<String> checkingEmpty = new HashSet<>();
+  /**
+   * 路径外写出的片段依赖的所有类，即本上下文输出的内容依赖的类
+   */
+  private final Set<String> dependencies = new HashSet<>();
+  private boolean truncated;
+
+  public ConvertContext(boolean withComment, boolean ignore, boolean collectFragments) {
+    this(withComment, ignore, collectFragments, null);
+  }
+
+  public ConvertContext(boolean withComment, boolean ignore, boolean collectFragments,
+      @Nullable ConvertMetrics metrics) {
+    this(withComment, ignore, collectFragments, metrics, OutputProfile.DEFAULT);
+  }
+
+  /**
+   * @param profile 输出配置，大小上限按 metrics 统计的输出字节数判断，没有 metrics 时不生效
+   */
+  public ConvertContext(boolean withComment, boolean ignore, boolean collectFragments,
+      @Nullable ConvertMetrics metrics, @NotNull OutputProfile profile) {
+    ConvertToJsonParamSettings settings = ConvertToJsonParamSettings.getInstance();
+    this.withComment = withComment;
+    this.ignore = ignore;
+    this.collectFragments = collectFragments;
+    this.parallel = settings.parallelTraversal;
+    this.maxDepth = settings.maxDepth;
+    this.maxNodes = settings.maxNodes;
+    this.metrics = metrics;
+    this.profile = profile;
+    this.shared = new ConcurrentHashMap<>();
+    this.counted = new HashSet<>();
+  }
+
+  /**
+   * 并行展开子树使用的上下文，路径以父上下文的当前路径开头，共享统计和片段，展开数量从父上下文的当前计数开始单独计算
+   */
+  private ConvertContext(@NotNull ConvertContext parent) {
+    this.withComment = parent.withComment;
+    this.ignore = parent.ignore;
+    this.collectFragments = true;
+    this.parallel = parent.parallel;
+    this.maxDepth = parent.maxDepth;
+    this.maxNodes = parent.maxNodes;
+    this.metrics = parent.metrics;
+    this.profile = parent.profile;
+    this.shared = parent.shared;
+    this.counted = new HashSet<>(parent.counted);
+    this.nodeCount = parent.nodeCount;
+    for (Frame frame : parent.path) {
+      this.path.add(new Frame(frame.name, frame.qualifiedName));
+    }
+  }
+
+  /**
+   * 本次转换是否需要注释，值和注释共用同一份类模型，避免重复解析
+   */
+  public boolean isWithComment() {
+    return withComment;
+  }
+
+  public boolean isIgnore() {
+    return ignore;
+  }
+
+  public int getNodeCount() {
+    return nodeCount;
+  }
+
+  public boolean isTruncated() {
+    return truncated;
+  }
+
+  public OutputProfile getProfile() {
+    return profile;
+  }
+
+  /**
+   * 已写出的内容是否超出输出大小上限，超出后不再展开
+   *
+   * @return boolean
+   * @author wangXin
+   * @date 2026-10-17 23:30
+   */
+  public boolean isOverBudget() {
+    return profile.getMaxBytes() > 0 && metrics != null
+        && metrics.getOutputBytes() >= profile.getMaxBytes();
+  }
+
+  /**
+   * 记录因超出输出大小上限停止写出，当前路径上的片段不完整，不再缓存
+   *
+   * @author wangXin
+   * @date 2026-10-17 23:30
+   */
+  public void markTruncated() {
+    truncated = true;
+    this.markPathFrom(0);
+  }
+
+  /**
+   * 省略空分支时判断类展开后是否为空对象，同一次转换中每个类只判断一次。
+   * 判断过程中再次遇到的类会输出循环引用标记，超过最大深度的类会输出截断标记，都视为非空
+   *
+   * @param psiClass    class对象
+   * @param substitutor 类型参数到实际类型的映射
+   * @param check       判断类的所有字段是否都被省略
+   * @return boolean
+   * @author wangXin
+   * @date 2026-10-17 23:30
+   */
+  public boolean isEmptyObject(@NotNull PsiClass psiClass, @NotNull PsiSubstitutor substitutor,
+      @NotNull BooleanSupplier check) {
+    String name = BeanModelUtil.instanceName(psiClass, substitutor);
+    Boolean empty = emptyObjects.get(name);
+    if (empty != null) {
+      return empty;
+    }
+    if (checkingEmpty.contains(name) || this.indexOnPath(name) >= 0
+        || path.size() + checkingEmpty.size() >= maxDepth) {
+      return false;
+    }
+    checkingEmpty.add(name);
+    try {
+      empty = check.getAsBoolean();
+    } finally {
+      checkingEmpty.remove(name);
+    }
+    emptyObjects.put(name, empty);
+    return empty;
+  }
+
+  /**
+   * 本次转换的统计信息，不需要统计时为 null
+   */
+  @Nullable
+  public ConvertMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * 展开一个类并写入 writer。循环引用和超出限制时写入标记对象，否则依次从本次输出、项目缓存中查找，都没有时调用 body 生成。
+   * <p>
+   * 收集片段时（树形输出）生成的片段会保存下来供本次输出和项目缓存复用；流式输出时边写入 writer 边构建片段，
+   * 自包含的片段同样供本次输出和项目缓存复用，与展开路径有关的片段在确定后停止构建。
+   *
+   * @param psiClass class对象
+   * @param variant  片段类型，例如示例值、注释
+   * @param writer   输出目标
+   * @param body     片段生成方法
+   * @author wangXin
+   * @date 2026-10-17 11:10
+   */
+  public void expand(@NotNull PsiClass psiClass, @NotNull String variant,
+      @NotNull JsonWriter writer, @NotNull JsonBody body) throws IOException {
+    this.expand(psiClass, PsiSubstitutor.EMPTY, variant, writer, body);
+  }
+
+  /**
+   * 展开泛型类的一种实例化并写入 writer，不同实例化的片段分别缓存，其他与 {@link #expand(PsiClass, String,
+   * JsonWriter, JsonBody)} 相同
+   *
+   * @param psiClass    class对象
+   * @param substitutor 类型参数到实际类型的映射
+   * @param variant     片段类型，例如示例值、注释
+   * @param writer      输出目标
+   * @param body        片段生成方法
+   * @author wangXin
+   * @date 2026-10-17 23:00
+   */
+  public void expand(@NotNull PsiClass psiClass, @NotNull PsiSubstitutor substitutor,
+      @NotNull String variant, @NotNull JsonWriter writer, @NotNull JsonBody body)
+      throws IOException {
+    ProgressManager.checkCanceled();
+    String name = BeanModelUtil.instanceName(psiClass, substitutor);
+    if (this.isOverBudget()) {
+      this.markTruncated();
+      ConvertContext.writeMarker(TRUNCATED_KEY, name, writer);
+      return;
+    }
+    String qualifiedVariant = profile.qualify(variant);
+    String key = name + '#' + qualifiedVariant;
+    Expanded cached = this.findExpanded(key);
+    if (cached != null) {
+      if (!cached.selfContained) {
+        // 片段里引用了路径外的类型，当前路径上的片段也不再自包含
+        this.markPathFrom(0);
+      }
+      if (metrics != null) {
+        metrics.incrementCacheHits();
+      }
+      this.addDependencies(cached.dependencies);
+      this.addInstances(cached.instances);
+      this.writeFragment(name, cached.jsonObject, writer);
+      return;
+    }
+    int index = this.indexOnPath(name);
+    if (index >= 0) {
+      this.markPathFrom(index + 1);
+      ConvertContext.writeMarker(REF_KEY, name, writer);
+      return;
+    }
+    if (path.size() >= maxDepth || nodeCount >= maxNodes) {
+      truncated = true;
+      this.markPathFrom(0);
+      ConvertContext.writeMarker(TRUNCATED_KEY, name, writer);
+      return;
+    }
+    nodeCount++;
+    counted.add(name);
+    if (metrics != null) {
+      metrics.incrementClasses();
+      metrics.updateMaxDepth(path.size() + 1);
+    }
+    JsonFragmentCache cache = JsonFragmentCache.getInstance(psiClass.getProject());
+    // 省略空分支时片段还取决于没有展开的类，不使用项目缓存
+    JsonFragmentCache.Fragment fragment = profile.isOmitEmpty() ? null
+        : cache.get(psiClass, substitutor, qualifiedVariant, ignore);
+    if (fragment != null) {
+      if (metrics != null) {
+        metrics.incrementCacheHits();
+      }
+      Set<String> instances = Collections.singleton(name);
+      expanded.put(key, new Expanded(fragment.getJsonObject(), true,
+          fragment.getDependencies(), instances));
+      this.addDependencies(fragment.getDependencies());
+      this.addInstances(instances);
+      this.writeFragment(name, fragment.getJsonObject(), writer);
+      return;
+    }
+    Frame frame = new Frame(name, ConvertContext.nameOf(psiClass));
+    // 继承的字段来自父类，父类修改时片段同样失效
+    for (PsiClass superClass : InheritanceUtil.getSuperClasses(psiClass)) {
+      String superName = superClass.getQualifiedName();
+      if (superName != null) {
+        frame.dependencies.add(superName);
+      }
+    }
+    path.add(frame);
+    JsonObject jsonObject;
+    try {
+      if (collectFragments) {
+        jsonObject = ConvertContext.toJsonObject(body);
+      } else {
+        CapturingJsonWriter capturing = new CapturingJsonWriter(writer, frame);
+        body.write(capturing);
+        jsonObject = frame.selfContained ? capturing.get() : null;
+      }
+    } finally {
+      path.remove(path.size() - 1);
+      this.addDependencies(frame.dependencies);
+      this.addInstances(frame.instances);
+    }
+    if (jsonObject == null) {
+      // 流式输出中与展开路径有关的片段已经写出，不保存
+      return;
+    }
+    Expanded result = new Expanded(jsonObject, frame.selfContained, frame.dependencies,
+        frame.instances);
+    expanded.put(key, result);
+    if (frame.selfContained) {
+      shared.put(key, result);
+      if (!profile.isOmitEmpty()) {
+        cache.put(psiClass, substitutor, qualifiedVariant, ignore, jsonObject,
+            frame.dependencies);
+      }
+    }
+    if (collectFragments) {
+      GSON.toJson(jsonObject, writer);
+    }
+  }
+
+  /**
+   * 写出已生成的片段。片段整体写出，限制输出大小时先按输出格式估算片段大小，超出剩余空间时写入截断标记
+   */
+  private void writeFragment(@NotNull String name, @NotNull JsonObject jsonObject,
+      @NotNull JsonWriter writer) throws IOException {
+    if (profile.getMaxBytes() > 0 && metrics != null) {
+      long bytes = (profile.isPretty() ? PRETTY_GSON : GSON).toJson(jsonObject)
+          .getBytes(StandardCharsets.UTF_8).length;
+      if (metrics.getOutputBytes() + bytes > profile.getMaxBytes()) {
+        this.markTruncated();
+        ConvertContext.writeMarker(TRUNCATED_KEY, name, writer);
+        return;
+      }
+    }
+    GSON.toJson(jsonObject, writer);
+  }
+
+  /**
+   * 并行展开即将写出的兄弟子树。未开启并行、层级较深或可以并行的子树少于两个时什么也不做。
+   * <p>
+   * 预先生成的片段只用于之后按字段顺序调用 {@link #expand} 时命中，不会改变输出内容和顺序；与展开路径有关的片段
+   * （包含循环引用或被截断）不共享，由当前线程重新展开。子上下文的展开数量单独计算，命中时才把片段中新出现的类计入当前上下文，
+   * 超出上限时由当前线程重新展开，截断位置与串行展开一致。
+   *
+   * @param fields   即将展开的实体字段，按字段顺序排列
+   * @param expander 在子上下文中展开一个类的方法
+   * @author wangXin
+   * @date 2026-10-17 18:30
+   */
+  public void fork(@NotNull List<FieldModel> fields, @NotNull Expander expander) {
+    if (!parallel || path.size() >= PARALLEL_DEPTH || path.size() >= maxDepth) {
+      return;
+    }
+    Map<String, FieldModel> candidates = new LinkedHashMap<>();
+    for (FieldModel field : fields) {
+      PsiClass targetClass = field.getTargetClass();
+      String name = targetClass == null ? null
+          : BeanModelUtil.instanceName(targetClass, field.getTargetSubstitutor());
+      if (name != null && this.indexOnPath(name) < 0) {
+        candidates.putIfAbsent(name, field);
+      }
+    }
+    if (candidates.size() < 2) {
+      return;
+    }
+    ProgressIndicator indicator = ProgressManager.getInstance().getProgressIndicator();
+    JobLauncher.getInstance().invokeConcurrentlyUnderProgress(
+        new ArrayList<>(candidates.values()),
+        indicator != null ? indicator : new EmptyProgressIndicator(), field -> {
+          ConvertContext child = new ConvertContext(this);
+          try {
+            // 结果通过 shared 传回，这里只需要展开
+            ConvertContext.toJsonObject(writer -> expander.expand(child,
+                Objects.requireNonNull(field.getTargetClass()), field.getTargetSubstitutor(),
+                writer));
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          return true;
+        });
+  }
+
+  /**
+   * 把 body 写出的内容构建成 json 对象
+   *
+   * @param body 片段生成方法
+   * @return com.google.gson.JsonObject
+   * @author wangXin
+   * @date 2026-10-17 14:30
+   */
+  public static JsonObject toJsonObject(@NotNull JsonBody body) throws IOException {
+    JsonElementWriter treeWriter = new JsonElementWriter();
+    body.write(treeWriter);
+    return treeWriter.get().getAsJsonObject();
+  }
+
+  /**
+   * 记录当前展开的类依赖 psiClass，例如字段中引用的枚举类型
+   *
+   * @param psiClass 被依赖的类
+   * @author wangXin
+   * @date 2026-10-17 18:10
+   */
+  public void addDependency(@NotNull PsiClass psiClass) {
+    String qualifiedName = psiClass.getQualifiedName();
+    if (qualifiedName != null) {
+      this.addDependencies(Collections.singleton(qualifiedName));
+    }
+  }
+
+  /**
+   * 本上下文已经输出的内容依赖的类，包括命中缓存的片段记录的依赖，类修改后输出需要重新生成
+   *
+   * @return java.util.Set<java.lang.String> 类全限定名
+   * @author wangXin
+   * @date 2026-10-17 23:50
+   */
+  public Set<String> getDependencies() {
+    return Collections.unmodifiableSet(dependencies);
+  }
+
+  private void addInstances(@NotNull Set<String> instances) {
+    if (!path.isEmpty()) {
+      path.get(path.size() - 1).instances.addAll(instances);
+    }
+  }
+
+  private void addDependencies(@NotNull Set<String> dependencies) {
+    if (path.isEmpty()) {
+      this.dependencies.addAll(dependencies);
+    } else {
+      path.get(path.size() - 1).dependencies.addAll(dependencies);
+    }
+  }
+
+  /**
+   * 依次从本上下文、其他线程生成的片段中查找。使用其他线程的片段时计入其中新出现的类，超出展开数量上限时返回 null
+   */
+  @Nullable
+  private Expanded findExpanded(@NotNull String key) {
+    Expanded cached = expanded.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    cached = shared.get(key);
+    if (cached == null) {
+      return null;
+    }
+    List<String> uncounted = new ArrayList<>();
+    for (String instance : cached.instances) {
+      if (!counted.contains(instance)) {
+        uncounted.add(instance);
+      }
+    }
+    if (nodeCount + uncounted.size() > maxNodes) {
+      return null;
+    }
+    counted.addAll(uncounted);
+    nodeCount += uncounted.size();
+    expanded.put(key, cached);
+    return cached;
+  }
+
+  private int indexOnPath(String name) {
+    for (int i = 0; i < path.size(); i++) {
+      if (path.get(i).name.equals(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void markPathFrom(int index) {
+    for (int i = index; i < path.size(); i++) {
+      path.get(i).selfContained = false;
+    }
+  }
+
+  private static String nameOf(@NotNull PsiClass psiClass) {
+    String qualifiedName = psiClass.getQualifiedName();
+    return qualifiedName != null ? qualifiedName : String.valueOf(psiClass.getName());
+  }
+
+  private static void writeMarker(String key, String name, JsonWriter writer)
+      throws IOException {
+    writer.beginObject().name(key).value(name).endObject();
+  }
+
+  /**
+   * 向 JsonWriter 写入一个完整 json 值
+   */
+  @FunctionalInterface
+  public interface JsonBody {
+
+    void write(@NotNull JsonWriter writer) throws IOException;
+  }
+
+  /**
+   * 在指定上下文中展开一个类，用于并行展开
+   */
+  @FunctionalInterface
+  public interface Expander {
+
+    void expand(@NotNull ConvertContext context, @NotNull PsiClass psiClass,
+        @NotNull PsiSubstitutor substitutor, @NotNull JsonWriter writer) throws IOException;
+  }
+
+  /**
+   * 当前路径上正在展开的类
+   */
+  private static class Frame {
+
+    private final String name;
+    private final String qualifiedName;
+    /**
+     * 子树中展开过的所有类，包括自身
+     */
+    private final Set<String> dependencies = new HashSet<>();
+    /**
+     * 子树中输出的所有类实例化，包括自身，用于计算展开数量
+     */
+    private final Set<String> instances = new HashSet<>();
+    /**
+     * 片段只引用自身子树内的类型且没有被截断时才可以放入项目缓存
+     */
+    private boolean selfContained = true;
+
+    /**
+     * @param name          类实例化后的名称，用于检测循环引用
+     * @param qualifiedName 类的全限定名，类被修改时依赖它的片段失效
+     */
+    private Frame(String name, String qualifiedName) {
+      this.name = name;
+      this.qualifiedName = qualifiedName;
+      this.dependencies.add(qualifiedName);
+      this.instances.add(name);
+    }
+  }
+
+  /**
+   * 流式输出时把写入 writer 的内容同时构建成 json 片段，片段不再自包含后停止构建
+   */
+  private static class CapturingJsonWriter extends JsonWriter {
+
+    private final JsonWriter delegate;
+    private final Frame frame;
+    private final JsonElementWriter capture = new JsonElementWriter();
+
+    private CapturingJsonWriter(@NotNull JsonWriter delegate, @NotNull Frame frame) {
+      // 内容全部转发给 delegate 和 capture，自身不写出
+      super(new StringWriter());
+      this.delegate = delegate;
+      this.frame = frame;
+    }
+
+    private JsonObject get() {
+      return capture.get().getAsJsonObject();
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+      delegate.beginArray();
+      if (frame.selfContained) {
+        capture.beginArray();
+      }
+      return this;
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+      delegate.endArray();
+      if (frame.selfContained) {
+        capture.endArray();
+      }
+      return this;
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+      delegate.beginObject();
+      if (frame.selfContained) {
+        capture.beginObject();
+      }
+      return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+      delegate.endObject();
+      if (frame.selfContained) {
+        capture.endObject();
+      }
+      return this;
+    }
+
+    @Override
+    public JsonWriter name(String name) throws IOException {
+      delegate.name(name);
+      if (frame.selfContained) {
+        capture.name(name);
+      }
+      return this;
+    }
+
+    @Override
+    public JsonWriter value(String value) throws IOException {
+      delegate.value(value);
+      if (frame.selfContained) {
+        capture.value(value);
+      }
+      return this;
+    }
+
+    @Override
+    public JsonWriter jsonValue(String value) throws IOException {
+      delegate.jsonValue(value);
+      if (frame.selfContained) {
+        capture.jsonValue(value);
+      }
+      return this;
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+      delegate.nullValue();
+      if (frame.selfContained) {
+        capture.nullValue();
+      }
+      return this;
+    }
+
+    @Override
+    public JsonWriter value(boolean value) throws IOException {
+      delegate.value(value);
+      if (frame.selfContained) {
+        capture.value(value);
+      }
+      return this;
+    }
+
+    @Override
+    public JsonWriter value(Boolean value) throws IOException {
+      delegate.value(value);
+      if (frame.selfContained) {
+        capture.value(value);
+      }
+      return this;
+    }
+
+    @Override
+    public JsonWriter value(double value) throws IOException {
+      delegate.value(value);
+      if (frame.selfContained) {
+        capture.value(value);
+      }
+      return this;
+    }
+
+    @Override
+    public JsonWriter value(long value) throws IOException {
+      delegate.value(value);
+      if (frame.selfContained) {
+        capture.value(value);
+      }
+      return this;
+    }
+
+    @Override
+    public JsonWriter value(Number value) throws IOException {
+      delegate.value(value);
+      if (frame.selfContained) {
+        capture.value(value);
+      }
+      return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+      delegate.flush();
+    }
+
+    @Override
+    public void close() {
+      // 由最外层的调用方关闭 delegate
+    }
+  }
+
+  private static class Expanded {
+
+    private final JsonObject jsonObject;
+    private final boolean selfContained;
+    private final Set<String> dependencies;
+    private final Set<String> instances;
+
+    private Expanded(JsonObject jsonObject, boolean selfContained, Set<String> dependencies,
+        Set<String> instances) {
+      this.jsonObject = jsonObject;
+      this.selfContained = selfContained;
+      this.dependencies = dependencies;
+      this.instances = instances;
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package com.wxibm333.util;
+
+import com.wxibm333.util.ConvertMetrics.Phase;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 单次转换的 JFR 事件，只能通过 {@link ConvertMetricsJfr} 使用
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 17:30
+ */
+@Name("com.wxibm333.ConvertToJson")
+@Label("Convert To JSON")
+@Category("ConvertToJsonParam")
+class ConvertJfrEvent extends Event {
+
+  @Label("Class")
+  String className;
+
+  @Label("With Comment")
+  boolean withComment;
+
+  @Label("Resolve")
+  @Timespan
+  long resolveNanos;
+
+  @Label("Walk")
+  @Timespan
+  long walkNanos;
+
+  @Label("Doc Extraction")
+  @Timespan
+  long docNanos;
+
+  @Label("Serialization")
+  @Timespan
+  long serializationNanos;
+
+  @Label("Output")
+  @Timespan
+  long outputNanos;
+
+  @Label("Classes")
+  int classes;
+
+  @Label("Fields")
+  int fields;
+
+  @Label("Resolve Calls")
+  int resolveCalls;
+
+  @Label("Cache Hits")
+  int cacheHits;
+
+  @Label("Model Builds")
+  int modelBuilds;
+
+  @Label("Model Cache Hits")
+  int modelCacheHits;
+
+  @Label("Model Build Time")
+  @Timespan
+  long modelNanos;
+
+  @Label("Max Depth")
+  int maxDepth;
+
+  @Label("Output Size")
+  @DataAmount
+  long outputBytes;
+
+  static void commit(@NotNull ConvertMetrics metrics) {
+    ConvertJfrEvent event = new ConvertJfrEvent();
+    if (!event.isEnabled()) {
+      return;
+    }
+    event.className = metrics.getClassName();
+    event.withComment = metrics.isWithComment();
+    event.resolveNanos = metrics.getPhaseNanos(Phase.RESOLVE);
+    event.walkNanos = metrics.getPhaseNanos(Phase.WALK);
+    event.docNanos = metrics.getPhaseNanos(Phase.DOC);
+    event.serializationNanos = metrics.getPhaseNanos(Phase.SERIALIZATION);
+    event.outputNanos = metrics.getPhaseNanos(Phase.OUTPUT);
+    event.classes = metrics.getClasses();
+    event.fields = metrics.getFields();
+    event.resolveCalls = metrics.getResolveCalls();
+    event.cacheHits = metrics.getCacheHits();
+    event.modelBuilds = metrics.getModelBuilds();
+    event.modelCacheHits = metrics.getModelCacheHits();
+    event.modelNanos = metrics.getModelNanos();
+    event.maxDepth = metrics.getMaxDepth();
+    event.outputBytes = metrics.getOutputBytes();
+    event.commit();
+  }
+}
@@ -0,0 +1,136 @@
+package com.wxibm333.util;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 增量转换清单，记录每个类转换时依赖的源文件及其内容 hash，依赖文件都没有变化时跳过该类的转换
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 16:10
+ */
+public class ConvertManifest {
+
+  public final static String FILE_NAME = ".convert-to-json-manifest.json";
+  private final static Gson GSON = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting()
+      .create();
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  /**
+   * 本次运行中已经计算过的文件 hash，key 为文件 url
+   */
+  private final Map<String, String> currentHashes = new ConcurrentHashMap<>();
+
+  /**
+   * 从输出目录加载清单，清单不存在或损坏时返回空清单
+   *
+   * @param directory 输出目录
+   * @return com.wxibm333.util.ConvertManifest
+   * @author wangXin
+   * @date 2026-10-17 16:10
+   */
+  public static ConvertManifest load(@NotNull Path directory) throws IOException {
+    ConvertManifest manifest = new ConvertManifest();
+    Path file = directory.resolve(FILE_NAME);
+    if (Files.isRegularFile(file)) {
+      try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+        Map<String, Entry> entries = GSON
+            .fromJson(reader, new TypeToken<Map<String, Entry>>() {
+            }.getType());
+        if (entries != null) {
+          manifest.entries.putAll(entries);
+        }
+      } catch (JsonParseException e) {
+        // 清单损坏时全部重新转换
+      }
+    }
+    return manifest;
+  }
+
+  public void save(@NotNull Path directory) throws IOException {
+    try (Writer writer = Files
+        .newBufferedWriter(directory.resolve(FILE_NAME), StandardCharsets.UTF_8)) {
+      GSON.toJson(new TreeMap<>(entries), writer);
+    }
+  }
+
+  /**
+   * 判断类的转换结果是否仍然有效
+   *
+   * @param qualifiedName 类全限定名
+   * @param isShowComment 是否携带注释
+   * @param outputFile    转换结果文件
+   * @return boolean
+   * @author wangXin
+   * @date 2026-10-17 16:10
+   */
+  public boolean isUpToDate(@NotNull String qualifiedName, boolean isShowComment,
+      @NotNull Path outputFile) {
+    Entry entry = entries.get(qualifiedName);
+    if (entry == null || entry.comment != isShowComment || entry.files == null
+        || !Files.isRegularFile(outputFile)) {
+      return false;
+    }
+    for (Map.Entry<String, String> file : entry.files.entrySet()) {
+      if (!file.getValue().equals(this.hashOf(file.getKey()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public void update(@NotNull String qualifiedName, boolean isShowComment,
+      @NotNull Collection<VirtualFile> files) {
+    Entry entry = new Entry();
+    entry.comment = isShowComment;
+    entry.files = new TreeMap<>();
+    for (VirtualFile file : files) {
+      entry.files.put(file.getUrl(), this.hashOf(file.getUrl()));
+    }
+    entries.put(qualifiedName, entry);
+  }
+
+  private String hashOf(@NotNull String url) {
+    return currentHashes.computeIfAbsent(url, key -> {
+      VirtualFile file = VirtualFileManager.getInstance().findFileByUrl(key);
+      if (file == null) {
+        return "";
+      }
+      try {
+        // 本地文件直接读磁盘，避免使用 VFS 中过期的内容
+        byte[] content = file.isInLocalFileSystem() ? Files.readAllBytes(Paths.get(file.getPath()))
+            : file.contentsToByteArray();
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return StringUtil.toHexString(digest.digest(content));
+      } catch (IOException | NoSuchAlgorithmException e) {
+        return "";
+      }
+    });
+  }
+
+  private static class Entry {
+
+    private boolean comment;
+    private Map<String, String> files;
+  }
+}
@@ -0,0 +1,250 @@
+package com.wxibm333.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 单次转换的耗时和计数，并行展开时会在多个线程中累加，转换结束后交给 {@link ConvertMetricsHistory} 展示
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 17:30
+ */
+public class ConvertMetrics {
+
+  private final String className;
+  private final boolean withComment;
+  private final long timestamp = System.currentTimeMillis();
+  private final AtomicLongArray phaseNanos = new AtomicLongArray(Phase.values().length);
+  private final AtomicInteger classes = new AtomicInteger();
+  private final AtomicInteger fields = new AtomicInteger();
+  private final AtomicInteger resolveCalls = new AtomicInteger();
+  private final AtomicInteger cacheHits = new AtomicInteger();
+  private final AtomicInteger modelBuilds = new AtomicInteger();
+  private final AtomicInteger modelCacheHits = new AtomicInteger();
+  private final AtomicLong modelNanos = new AtomicLong();
+  private final AtomicInteger maxDepth = new AtomicInteger();
+  private final AtomicLong outputBytes = new AtomicLong();
+
+  public ConvertMetrics(@NotNull String className, boolean withComment) {
+    this.className = className;
+    this.withComment = withComment;
+  }
+
+  public String getClassName() {
+    return className;
+  }
+
+  public boolean isWithComment() {
+    return withComment;
+  }
+
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public long getPhaseNanos(@NotNull Phase phase) {
+    return phaseNanos.get(phase.ordinal());
+  }
+
+  public void addPhaseNanos(@NotNull Phase phase, long nanos) {
+    phaseNanos.addAndGet(phase.ordinal(), nanos);
+  }
+
+  public long getTotalNanos() {
+    long total = 0;
+    for (int i = 0; i < phaseNanos.length(); i++) {
+      total += phaseNanos.get(i);
+    }
+    return total;
+  }
+
+  public int getClasses() {
+    return classes.get();
+  }
+
+  public void incrementClasses() {
+    classes.incrementAndGet();
+  }
+
+  public int getFields() {
+    return fields.get();
+  }
+
+  public void incrementFields() {
+    fields.incrementAndGet();
+  }
+
+  public int getResolveCalls() {
+    return resolveCalls.get();
+  }
+
+  public void incrementResolveCalls() {
+    resolveCalls.incrementAndGet();
+  }
+
+  public int getCacheHits() {
+    return cacheHits.get();
+  }
+
+  public void incrementCacheHits() {
+    cacheHits.incrementAndGet();
+  }
+
+  /**
+   * 本次转换中构建的类模型数量，即类模型缓存未命中的次数
+   */
+  public int getModelBuilds() {
+    return modelBuilds.get();
+  }
+
+  /**
+   * 记录构建了一个类模型
+   *
+   * @param nanos 构建耗时，包含在遍历阶段中，不单独计入总耗时
+   * @author wangXin
+   * @date 2026-10-17 23:50
+   */
+  public void addModelBuild(long nanos) {
+    modelBuilds.incrementAndGet();
+    modelNanos.addAndGet(nanos);
+  }
+
+  public long getModelNanos() {
+    return modelNanos.get();
+  }
+
+  public int getModelCacheHits() {
+    return modelCacheHits.get();
+  }
+
+  public void incrementModelCacheHits() {
+    modelCacheHits.incrementAndGet();
+  }
+
+  public int getMaxDepth() {
+    return maxDepth.get();
+  }
+
+  public void updateMaxDepth(int depth) {
+    maxDepth.accumulateAndGet(depth, Math::max);
+  }
+
+  public long getOutputBytes() {
+    return outputBytes.get();
+  }
+
+  /**
+   * 包装输出目标，统计写入的 UTF-8 字节数。写入先放到缓冲区，缓冲区写满或 flush 时才写入输出目标，
+   * 写入输出目标的耗时计入序列化阶段，避免每次写入都计时
+   *
+   * @param writer 输出目标
+   * @return java.io.Writer
+   * @author wangXin
+   * @date 2026-10-17 17:30
+   */
+  public Writer wrap(@NotNull Writer writer) {
+    return new Writer() {
+
+      private final char[] buffer = new char[8192];
+      private int size;
+
+      @Override
+      public void write(@NotNull char[] chars, int offset, int length) throws IOException {
+        long bytes = 0;
+        for (int i = offset; i < offset + length; i++) {
+          bytes += ConvertMetrics.utf8Length(chars[i]);
+        }
+        outputBytes.addAndGet(bytes);
+        if (size + length > buffer.length) {
+          this.flushBuffer();
+        }
+        if (length >= buffer.length) {
+          long start = System.nanoTime();
+          writer.write(chars, offset, length);
+          ConvertMetrics.this.addPhaseNanos(Phase.SERIALIZATION, System.nanoTime() - start);
+        } else {
+          System.arraycopy(chars, offset, buffer, size, length);
+          size += length;
+        }
+      }
+
+      @Override
+      public void write(@NotNull String text, int offset, int length) throws IOException {
+        if (length >= buffer.length) {
+          this.write(text.toCharArray(), offset, length);
+          return;
+        }
+        long bytes = 0;
+        for (int i = offset; i < offset + length; i++) {
+          bytes += ConvertMetrics.utf8Length(text.charAt(i));
+        }
+        outputBytes.addAndGet(bytes);
+        if (size + length > buffer.length) {
+          this.flushBuffer();
+        }
+        text.getChars(offset, offset + length, buffer, size);
+        size += length;
+      }
+
+      @Override
+      public void flush() throws IOException {
+        this.flushBuffer();
+        writer.flush();
+      }
+
+      @Override
+      public void close() throws IOException {
+        this.flushBuffer();
+        writer.close();
+      }
+
+      private void flushBuffer() throws IOException {
+        if (size == 0) {
+          return;
+        }
+        long start = System.nanoTime();
+        writer.write(buffer, 0, size);
+        ConvertMetrics.this.addPhaseNanos(Phase.SERIALIZATION, System.nanoTime() - start);
+        size = 0;
+      }
+    };
+  }
+
+  /**
+   * 字符的 UTF-8 字节数，代理对的两个字符各计 2 字节，合计 4 字节
+   */
+  static int utf8Length(char c) {
+    return c < 0x80 ? 1 : c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+  }
+
+  /**
+   * 转换阶段
+   */
+  public enum Phase {
+    /**
+     * 定位光标所在的类
+     */
+    RESOLVE,
+    /**
+     * 遍历字段、构建类模型
+     */
+    WALK,
+    /**
+     * 提取 javadoc 注释和校验注解
+     */
+    DOC,
+    /**
+     * 写入 json
+     */
+    SERIALIZATION,
+    /**
+     * 写剪贴板或 scratch 文件
+     */
+    OUTPUT
+  }
+}
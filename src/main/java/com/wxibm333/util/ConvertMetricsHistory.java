@@ -0,0 +1,60 @@
+package com.wxibm333.util;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.util.containers.ContainerUtil;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 最近几次转换的统计信息，最新的在前，只在 EDT 上访问
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 17:30
+ */
+public class ConvertMetricsHistory {
+
+  private final static int MAX_SIZE = 50;
+
+  private final LinkedList<ConvertMetrics> runs = new LinkedList<>();
+  private final List<Runnable> listeners = ContainerUtil.createLockFreeCopyOnWriteList();
+
+  public static ConvertMetricsHistory getInstance(@NotNull Project project) {
+    return ServiceManager.getService(project, ConvertMetricsHistory.class);
+  }
+
+  public void add(@NotNull ConvertMetrics metrics) {
+    runs.addFirst(metrics);
+    if (runs.size() > MAX_SIZE) {
+      runs.removeLast();
+    }
+    listeners.forEach(Runnable::run);
+  }
+
+  public List<ConvertMetrics> getRuns() {
+    return new ArrayList<>(runs);
+  }
+
+  public void clear() {
+    runs.clear();
+    listeners.forEach(Runnable::run);
+  }
+
+  /**
+   * 注册历史变化监听，parent 销毁时自动移除
+   *
+   * @param listener 监听
+   * @param parent   监听的生命周期
+   * @author wangXin
+   * @date 2026-10-17 17:30
+   */
+  public void addListener(@NotNull Runnable listener, @NotNull Disposable parent) {
+    listeners.add(listener);
+    Disposer.register(parent, () -> listeners.remove(listener));
+  }
+}
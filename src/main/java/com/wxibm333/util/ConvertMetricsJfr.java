@@ -0,0 +1,30 @@
+package com.wxibm333.util;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 把转换统计信息作为 JFR 自定义事件提交。运行时没有 JFR 时什么也不做，事件类只在 JFR 可用时才会加载
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 17:30
+ */
+public class ConvertMetricsJfr {
+
+  private final static boolean AVAILABLE = ConvertMetricsJfr.isJfrAvailable();
+
+  private static boolean isJfrAvailable() {
+    try {
+      Class.forName("jdk.jfr.Event", false, ConvertMetricsJfr.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  public static void commit(@NotNull ConvertMetrics metrics) {
+    if (AVAILABLE) {
+      ConvertJfrEvent.commit(metrics);
+    }
+  }
+}
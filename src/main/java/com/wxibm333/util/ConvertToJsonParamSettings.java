@@ -0,0 +1,101 @@
+package com.wxibm333.util;
+
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.util.xmlb.XmlSerializerUtil;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 插件全局配置
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 11:05
+ */
+@State(name = "ConvertToJsonParamSettings", storages = @Storage("convertToJsonParam.xml"))
+public class ConvertToJsonParamSettings implements
+    PersistentStateComponent<ConvertToJsonParamSettings> {
+
+  /**
+   * 嵌套对象的最大展开深度，超过后输出截断标记
+   */
+  public int maxDepth = 16;
+
+  /**
+   * 单次转换最多展开的类数量，超过后输出截断标记
+   */
+  public int maxNodes = 5000;
+
+  /**
+   * 转换结果的输出目标
+   */
+  public OutputTarget outputTarget = OutputTarget.CLIPBOARD;
+
+  /**
+   * 输出到剪贴板时的大小上限（KB），超过后改为写入 scratch 文件，小于等于 0 时不限制
+   */
+  public int clipboardThresholdKb = 1024;
+
+  /**
+   * 是否在多个线程中并行展开兄弟字段的子树
+   */
+  public boolean parallelTraversal = false;
+
+  /**
+   * 快速模式：字段、枚举常量和验证注解只从 stub 读取，只有需要注释且类在项目源码中时才读取 javadoc。
+   * 依赖库中字段的注释为空，默认关闭，需要在配置页面开启
+   */
+  public boolean fastMode = false;
+
+  /**
+   * 项目源码的类模型优先从持久化索引构建，关闭时总是遍历 PSI，用于对比和排查问题
+   */
+  public boolean useBeanModelIndex = true;
+
+  /**
+   * 输出压缩的 json，不换行、不缩进
+   */
+  public boolean minifiedOutput = false;
+
+  /**
+   * 数组、集合中输出的示例元素个数
+   */
+  public int sampleElements = 1;
+
+  /**
+   * 省略 Map、空数组、空对象等没有示例值的分支
+   */
+  public boolean omitEmptyBranches = false;
+
+  /**
+   * 转换结果的大小上限（KB），超过后停止展开并输出截断标记，小于等于 0 时不限制
+   */
+  public int maxOutputKb = 0;
+
+  public static ConvertToJsonParamSettings getInstance() {
+    return ServiceManager.getService(ConvertToJsonParamSettings.class);
+  }
+
+  @Override
+  public ConvertToJsonParamSettings getState() {
+    return this;
+  }
+
+  @Override
+  public void loadState(@NotNull ConvertToJsonParamSettings state) {
+    XmlSerializerUtil.copyBean(state, this);
+  }
+
+  public enum OutputTarget {
+    /**
+     * 系统剪贴板
+     */
+    CLIPBOARD,
+    /**
+     * IDE scratch 文件
+     */
+    SCRATCH_FILE
+  }
+}
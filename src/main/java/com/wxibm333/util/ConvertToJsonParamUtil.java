@@ -2,31 +2,45 @@ package com.wxibm333.util;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import com.intellij.notification.Notification;
 import com.intellij.notification.NotificationDisplayType;
 import com.intellij.notification.NotificationGroup;
+import com.intellij.notification.NotificationListener;
 import com.intellij.notification.NotificationType;
 import com.intellij.notification.Notifications;
 import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
-import com.intellij.psi.PsiArrayType;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiEnumConstant;
-import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiSubstitutor;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
 import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.util.PsiUtil;
-import java.awt.Toolkit;
-import java.awt.datatransfer.Clipboard;
-import java.awt.datatransfer.StringSelection;
+import com.wxibm333.util.ConvertMetrics.Phase;
+import com.wxibm333.util.ConvertToJsonParamSettings.OutputTarget;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * java bean convert to json param
@@ -37,121 +51,470 @@ import org.jetbrains.annotations.NotNull;
  */
 public class ConvertToJsonParamUtil {
 
+  private final static String VARIANT_VALUE = "value";
+  private final static String VARIANT_VALUE_COMMENT = "valueWithComment";
   private final static NotificationGroup NOTIFICATION_GROUP;
-  private final static Gson GSON = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting()
-      .create();
+  private final static String INDENT = "  ";
+  private final static Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
 
   static {
     NOTIFICATION_GROUP = new NotificationGroup("JavaBean2JsonParam.NotificationGroup",
         NotificationDisplayType.BALLOON, true);
   }
 
-  // private static boolean isNormalType(String typeName) {
-  //   return NORMAL_TYPES.containsKey(typeName);
-  // }
-
   public static void convertToJsonParam(@NotNull AnActionEvent anActionEvent, boolean isShowComment,
       boolean ignore) {
+    ConvertToJsonParamUtil.convert(anActionEvent, isShowComment, ".json",
+        (psiClass, writer, metrics) -> {
+          OutputProfile profile = OutputProfile.fromSettings();
+          writer.setIndent(profile.isPretty() ? INDENT : "");
+          ConvertContext context = new ConvertContext(isShowComment, ignore, false, metrics,
+              profile);
+          ConvertToJsonParamUtil.writeJsonObject(psiClass, isShowComment, context, writer);
+        });
+  }
+
+  /**
+   * 把光标所在的类转换成 JSON Schema
+   *
+   * @param anActionEvent 事件
+   * @author wangXin
+   * @date 2026-10-17 19:10
+   */
+  public static void convertToJsonSchema(@NotNull AnActionEvent anActionEvent) {
+    ConvertToJsonParamUtil.convert(anActionEvent, true, ".schema.json",
+        JsonSchemaUtil::writeSchema);
+  }
+
+  private static void convert(@NotNull AnActionEvent anActionEvent, boolean isShowComment,
+      @NotNull String fileSuffix, @NotNull ConvertBody body) {
+    long resolveStart = System.nanoTime();
     Editor editor = anActionEvent.getDataContext().getData(CommonDataKeys.EDITOR);
     PsiFile psiFile = anActionEvent.getDataContext().getData(CommonDataKeys.PSI_FILE);
     Project project = Objects.requireNonNull(editor).getProject();
     PsiElement referenceAt = Objects.requireNonNull(psiFile)
         .findElementAt(editor.getCaretModel().getOffset());
     PsiClass selectedClass = PsiTreeUtil.getContextOfType(referenceAt, PsiClass.class);
-    try {
-      PsiClass psiClass = Objects.requireNonNull(selectedClass);
-      JsonObject jsonObject = convertJsonObject(selectedClass, isShowComment, ignore);
-      String json = GSON.toJson(jsonObject);
-      StringSelection selection = new StringSelection(json);
-      Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
-      clipboard.setContents(selection, selection);
-      String message = String
-          .format("Convert %s to JSON success, copied to clipboard.", psiClass.getName());
-      Notification success = NOTIFICATION_GROUP
-          .createNotification(message, NotificationType.INFORMATION);
-      Notifications.Bus.notify(success, project);
-    } catch (Exception ex) {
-      Notification error = NOTIFICATION_GROUP
-          .createNotification("Convert to JSON failed.", NotificationType.ERROR);
-      Notifications.Bus.notify(error, project);
-    }
-  }
-
-  private static void putForReferenceType(@NotNull PsiClass resolveClass, @NotNull String key,
-      boolean ignore, @NotNull JsonObject targetJsonObject) {
-    if (resolveClass.isEnum()) {
-      JsonArray jsonArray = new JsonArray();
-      PsiField[] enumFields = resolveClass.getAllFields();
-      for (PsiField enumField : enumFields) {
-        if (enumField instanceof PsiEnumConstant) {
-          jsonArray.add(enumField.getName());
+    if (project == null || selectedClass == null) {
+      ConvertToJsonParamUtil.notifyError(project);
+      return;
+    }
+    // PSI 遍历放到后台可重启的读操作中执行，json 边遍历边写入输出目标，EDT 上只负责写剪贴板和通知
+    SmartPsiElementPointer<PsiClass> classPointer = SmartPointerManager
+        .createPointer(selectedClass);
+    String className = String.valueOf(selectedClass.getName());
+    long resolveNanos = System.nanoTime() - resolveStart;
+    JsonSink sink = ConvertToJsonParamUtil.createSink(className + fileSuffix);
+    String title = String.format("Converting %s to JSON", className);
+    ProgressManager.getInstance().run(new Task.Backgroundable(project, title, true) {
+
+      private ConvertMetrics metrics;
+
+      @Override
+      public void run(@NotNull ProgressIndicator indicator) {
+        indicator.setIndeterminate(true);
+        metrics = ReadAction.nonBlocking(() -> {
+          // 读操作重启时重新统计
+          ConvertMetrics runMetrics = new ConvertMetrics(className, isShowComment);
+          long start = System.nanoTime();
+          PsiClass psiClass = Objects.requireNonNull(classPointer.getElement());
+          runMetrics.addPhaseNanos(Phase.RESOLVE, resolveNanos + System.nanoTime() - start);
+          long walkStart = System.nanoTime();
+          try (JsonWriter writer = new JsonWriter(runMetrics.wrap(sink.openWriter()))) {
+            body.write(psiClass, writer, runMetrics);
+          }
+          // 遍历耗时中扣除嵌套统计的注释提取和序列化耗时
+          long nestedNanos = runMetrics.getPhaseNanos(Phase.DOC)
+              + runMetrics.getPhaseNanos(Phase.SERIALIZATION);
+          // 并行展开时注释提取耗时是多个线程的累计值，可能超过实际耗时
+          runMetrics.addPhaseNanos(Phase.WALK,
+              Math.max(0, System.nanoTime() - walkStart - nestedNanos));
+          return runMetrics;
+        }).wrapProgress(indicator).expireWith(project).executeSynchronously();
+      }
+
+      @Override
+      public void onSuccess() {
+        long outputStart = System.nanoTime();
+        String message = sink.complete(project, className);
+        metrics.addPhaseNanos(Phase.OUTPUT, System.nanoTime() - outputStart);
+        ConvertMetricsHistory.getInstance(project).add(metrics);
+        ConvertMetricsJfr.commit(metrics);
+        ConvertToJsonParamUtil.notify(project, message, NotificationType.INFORMATION,
+            sink.getNotificationListener(project));
+      }
+
+      @Override
+      public void onThrowable(@NotNull Throwable error) {
+        ConvertToJsonParamUtil.notifyError(project);
+      }
+    });
+  }
+
+  private static JsonSink createSink(@NotNull String fileName) {
+    ConvertToJsonParamSettings settings = ConvertToJsonParamSettings.getInstance();
+    if (settings.outputTarget == OutputTarget.SCRATCH_FILE) {
+      return new ScratchFileJsonSink(fileName);
+    }
+    return new ClipboardJsonSink(fileName, settings.clipboardThresholdKb * 1024L);
+  }
+
+  private static void notifyError(@Nullable Project project) {
+    ConvertToJsonParamUtil.notify(project, "Convert to JSON failed.", NotificationType.ERROR);
+  }
+
+  public static void notify(@Nullable Project project, @NotNull String message,
+      @NotNull NotificationType type) {
+    ConvertToJsonParamUtil.notify(project, message, type, null);
+  }
+
+  public static void notify(@Nullable Project project, @NotNull String message,
+      @NotNull NotificationType type, @Nullable NotificationListener listener) {
+    Notification notification = NOTIFICATION_GROUP.createNotification("", message, type,
+        listener);
+    Notifications.Bus.notify(notification, project);
+  }
+
+  /**
+   * 把类的示例 json 写入文件，不依赖编辑器和剪贴板，需要在读操作中调用
+   *
+   * @param psiClass      class对象
+   * @param isShowComment 是否携带注释
+   * @param file          输出文件，已存在时覆盖
+   * @author wangXin
+   * @date 2026-10-17 15:30
+   */
+  public static void writeJsonFile(@NotNull PsiClass psiClass, boolean isShowComment,
+      @NotNull Path file) throws IOException {
+    try (JsonWriter writer = new JsonWriter(
+        Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+      writer.setIndent(INDENT);
+      ConvertContext context = new ConvertContext(isShowComment, false, false);
+      ConvertToJsonParamUtil.writeJsonObject(psiClass, isShowComment, context, writer);
+    }
+  }
+
+  /**
+   * 按转换结果的格式输出 json 文本：缩进两个空格，不转义 html 字符
+   *
+   * @param element json 值
+   * @return java.lang.String
+   * @author wangXin
+   * @date 2026-10-17 23:50
+   */
+  public static String toJsonText(@NotNull JsonElement element) {
+    StringWriter buffer = new StringWriter();
+    try (JsonWriter writer = new JsonWriter(buffer)) {
+      writer.setIndent(INDENT);
+      GSON.toJson(element, writer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return buffer.toString();
+  }
+
+  private static void writeForReferenceType(@NotNull FieldModel field,
+      @NotNull ConvertContext context, @NotNull JsonWriter writer) throws IOException {
+    ProgressManager.checkCanceled();
+    PsiClass elementClass = field.getTargetClass();
+    if (field.getElementKind() == TypeKind.NORMAL) {
+      writer.name(field.getName()).beginArray();
+      for (int i = 0; ConvertToJsonParamUtil.hasNextSample(i, context); i++) {
+        ToolsUtil.writeDefaultValue(field.getDefaultValue(), writer);
+      }
+      writer.endArray();
+    } else if (elementClass != null && field.getElementKind() == TypeKind.ENUM) {
+      writer.name(field.getName()).beginArray();
+      BeanModel enumModel = BeanModelUtil.getBeanModel(elementClass, context.isWithComment());
+      for (String enumConstant : enumModel.getEnumConstants().keySet()) {
+        writer.value(enumConstant);
+      }
+      writer.endArray();
+    } else if (elementClass != null) {
+      writer.name(field.getName()).beginArray();
+      if (context.getProfile().getSampleElements() == 1
+          || context.getProfile().getMaxBytes() > 0) {
+        // 限制输出大小时每个元素都直接写出，边写边检查；第二个元素起命中本次输出的片段，写出前检查片段大小
+        for (int i = 0; ConvertToJsonParamUtil.hasNextSample(i, context); i++) {
+          ConvertToJsonParamUtil.expandJsonObject(elementClass, field.getTargetSubstitutor(),
+              false, context, writer);
+        }
+      } else {
+        // 示例元素的内容相同，只展开一次
+        JsonObject element = ConvertContext.toJsonObject(target -> ConvertToJsonParamUtil
+            .expandJsonObject(elementClass, field.getTargetSubstitutor(), false, context,
+                target));
+        for (int i = 0; ConvertToJsonParamUtil.hasNextSample(i, context); i++) {
+          GSON.toJson(element, writer);
         }
       }
-      targetJsonObject.add(key, jsonArray);
-    } else if (ToolsUtil.isNormalType(resolveClass)) {
-      JsonArray jsonArray = ToolsUtil
-          .getDefaultValueForPrimitiveOrNormalType(resolveClass);
-      targetJsonObject.add(key, jsonArray);
-    } else {
-      JsonArray jsonArray = new JsonArray();
-      JsonObject convertJsonObject = ConvertToJsonParamUtil
-          .convertJsonObject(resolveClass, false, ignore);
-      jsonArray.add(convertJsonObject);
-      targetJsonObject.add(key, jsonArray);
+      writer.endArray();
+    }
+  }
+
+  /**
+   * 是否继续写出第 index 个示例元素，第一个元素总是写出，之后超出输出大小上限时停止
+   */
+  private static boolean hasNextSample(int index, @NotNull ConvertContext context) {
+    if (index >= context.getProfile().getSampleElements()) {
+      return false;
+    }
+    if (index > 0 && context.isOverBudget()) {
+      context.markTruncated();
+      return false;
     }
+    return true;
   }
 
   public static JsonObject convertJsonObject(PsiClass psiClass, boolean isShowComment,
       boolean ignore) {
-    JsonObject jsonObject = new JsonObject();
-    JsonObject commentJsonObject = new JsonObject();
-    if (psiClass != null) {
-      for (PsiField field : psiClass.getAllFields()) {
-        PsiType type = field.getType();
-        String name = field.getName();
-
-        // doc comment
-        if (isShowComment) {
-          JsonObject generateDocComment = JavadocForJsonUtil.generateDocComment(field);
-          commentJsonObject.add(name, generateDocComment);
+    if (psiClass == null) {
+      return new JsonObject();
+    }
+    ConvertContext context = new ConvertContext(isShowComment, ignore, true);
+    try {
+      return ConvertContext.toJsonObject(writer -> ConvertToJsonParamUtil
+          .writeJsonObject(psiClass, isShowComment, context, writer));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 转换类中单个字段的示例值，只展开该字段引用的类型，需要在读操作中调用
+   *
+   * @param psiClass  字段所在的类
+   * @param fieldName 字段名
+   * @return com.google.gson.JsonElement 字段不存在或没有示例值时返回 JsonNull
+   * @author wangXin
+   * @date 2026-10-17 20:00
+   */
+  @NotNull
+  public static JsonElement convertFieldValue(@NotNull PsiClass psiClass,
+      @NotNull String fieldName) {
+    return ConvertToJsonParamUtil.convertFieldValue(psiClass, PsiSubstitutor.EMPTY, fieldName);
+  }
+
+  /**
+   * 转换泛型类实例化后单个字段的示例值，需要在读操作中调用
+   *
+   * @param psiClass    字段所在的类
+   * @param substitutor 字段所在类的类型参数
+   * @param fieldName   字段名
+   * @return com.google.gson.JsonElement 字段不存在或没有示例值时返回 JsonNull
+   * @author wangXin
+   * @date 2026-10-17 23:50
+   */
+  @NotNull
+  public static JsonElement convertFieldValue(@NotNull PsiClass psiClass,
+      @NotNull PsiSubstitutor substitutor, @NotNull String fieldName) {
+    ConvertContext context = new ConvertContext(false, false, true);
+    for (FieldModel field : BeanModelUtil.getBeanModel(psiClass, substitutor, false, null)
+        .getFields()) {
+      if (!field.getName().equals(fieldName)) {
+        continue;
+      }
+      try {
+        JsonObject holder = ConvertContext.toJsonObject(writer -> {
+          writer.beginObject();
+          ConvertToJsonParamUtil.writeField(field, context, writer);
+          writer.endObject();
+        });
+        JsonElement value = holder.get(fieldName);
+        return value == null ? JsonNull.INSTANCE : value;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return JsonNull.INSTANCE;
+  }
+
+  /**
+   * 把类的示例 json 写入 writer
+   *
+   * @param psiClass      class对象
+   * @param isShowComment 是否携带注释
+   * @param context       遍历上下文
+   * @param writer        输出目标
+   * @author wangXin
+   * @date 2026-10-17 14:50
+   */
+  public static void writeJsonObject(@NotNull PsiClass psiClass, boolean isShowComment,
+      @NotNull ConvertContext context, @NotNull JsonWriter writer) throws IOException {
+    ConvertToJsonParamUtil.writeJsonObject(psiClass, PsiSubstitutor.EMPTY, isShowComment,
+        context, writer);
+  }
+
+  /**
+   * 把泛型类实例化后的示例 json 写入 writer，例如 {@code Result<UserDto>} 中类型为 T 的字段展开为 UserDto
+   *
+   * @param psiClass      class对象
+   * @param substitutor   类型参数到实际类型的映射
+   * @param isShowComment 是否携带注释
+   * @param context       遍历上下文
+   * @param writer        输出目标
+   * @author wangXin
+   * @date 2026-10-17 23:00
+   */
+  public static void writeJsonObject(@NotNull PsiClass psiClass,
+      @NotNull PsiSubstitutor substitutor, boolean isShowComment,
+      @NotNull ConvertContext context, @NotNull JsonWriter writer) throws IOException {
+    ConvertToJsonParamUtil.expandJsonObject(psiClass, substitutor, isShowComment, context,
+        writer);
+  }
+
+  private static void expandJsonObject(@NotNull PsiClass psiClass,
+      @NotNull PsiSubstitutor substitutor, boolean isShowComment,
+      @NotNull ConvertContext context, @NotNull JsonWriter writer) throws IOException {
+    context.expand(psiClass, substitutor, isShowComment ? VARIANT_VALUE_COMMENT : VARIANT_VALUE,
+        writer, target -> ConvertToJsonParamUtil
+            .doWriteJsonObject(psiClass, substitutor, isShowComment, context, target));
+  }
+
+  /**
+   * 收集需要展开实体类的字段，包括数组、集合的元素类型，按字段顺序排列
+   */
+  private static List<FieldModel> collectExpandedFields(@NotNull BeanModel beanModel) {
+    List<FieldModel> fields = new ArrayList<>();
+    for (FieldModel field : beanModel.getFields()) {
+      if (field.getElementKind() == TypeKind.BEAN && field.getTargetClass() != null) {
+        fields.add(field);
+      }
+    }
+    return fields;
+  }
+
+  private static void doWriteJsonObject(@NotNull PsiClass psiClass,
+      @NotNull PsiSubstitutor substitutor, boolean isShowComment,
+      @NotNull ConvertContext context, @NotNull JsonWriter writer) throws IOException {
+    ConvertMetrics metrics = context.getMetrics();
+    BeanModel beanModel = BeanModelUtil
+        .getBeanModel(psiClass, substitutor, context.isWithComment(), metrics);
+    // 并行展开兄弟字段的子树，之后按字段顺序写出时直接命中
+    context.fork(ConvertToJsonParamUtil.collectExpandedFields(beanModel),
+        (child, target, targetSubstitutor, output) -> ConvertToJsonParamUtil
+            .expandJsonObject(target, targetSubstitutor, false, child, output));
+    writer.beginObject();
+    for (FieldModel field : beanModel.getFields()) {
+      ProgressManager.checkCanceled();
+      if (context.isOverBudget()) {
+        // 超出输出大小上限，剩余字段不再写出
+        context.markTruncated();
+        writer.name(ConvertContext.TRUNCATED_KEY)
+            .value(BeanModelUtil.instanceName(psiClass, substitutor));
+        break;
+      }
+      if (metrics != null) {
+        metrics.incrementFields();
+      }
+      ConvertToJsonParamUtil.writeField(field, context, writer);
+    }
+    // doc comment
+    if (isShowComment) {
+      writer.name("@comment").beginObject();
+      for (FieldModel field : beanModel.getFields()) {
+        // 与示例值一致，省略的空分支不输出注释
+        if (context.getProfile().isOmitEmpty()
+            && ConvertToJsonParamUtil.isEmptyBranch(field, context)) {
+          continue;
+        }
+        writer.name(field.getName());
+        JavadocForJsonUtil.writeDocComment(field, context, writer);
+      }
+      writer.endObject();
+    }
+    writer.endObject();
+  }
+
+  /**
+   * 写出单个字段的名称和示例值，类型无法确定或没有示例值时不写
+   */
+  private static void writeField(@NotNull FieldModel field, @NotNull ConvertContext context,
+      @NotNull JsonWriter writer) throws IOException {
+    String name = field.getName();
+    PsiClass targetClass = field.getTargetClass();
+    if (targetClass != null) {
+      context.addDependency(targetClass);
+    }
+    if (context.getProfile().isOmitEmpty()
+        && ConvertToJsonParamUtil.isEmptyBranch(field, context)) {
+      return;
+    }
+    switch (field.getKind()) {
+      case NORMAL:
+        if (field.getDefaultValue() != null) {
+          writer.name(name);
+          ToolsUtil.writeDefaultValue(field.getDefaultValue(), writer);
         }
+        break;
+      case ARRAY:
+      case COLLECTION:
+        // 数组、集合处理
+        ConvertToJsonParamUtil.writeForReferenceType(field, context, writer);
+        break;
+      case ENUM:
+        // 枚举处理，取第一个枚举值
+        Map<String, String> enumConstants = BeanModelUtil
+            .getBeanModel(Objects.requireNonNull(targetClass), context.isWithComment())
+            .getEnumConstants();
+        if (!enumConstants.isEmpty()) {
+          writer.name(name).value(enumConstants.keySet().iterator().next());
+        }
+        break;
+      case BEAN:
+        writer.name(name);
+        ConvertToJsonParamUtil.expandJsonObject(Objects.requireNonNull(targetClass),
+            field.getTargetSubstitutor(), false, context, writer);
+        break;
+      case MAP:
+        // Map 的键值无法确定，输出空对象
+        writer.name(name).beginObject().endObject();
+        break;
+      default:
+        break;
+    }
+  }
 
-        // Generate json parameters
-        boolean primitiveOrNormalType = ToolsUtil.isPrimitiveOrNormalType(type);
-
-        if (primitiveOrNormalType) {
-          ToolsUtil.putDefaultValueForPrimitiveOrNormalType(type, name, jsonObject);
-        } else {
-          PsiClass resolveClass = PsiUtil.resolveClassInType(type);
-          if (resolveClass != null) {
-            if (type instanceof PsiArrayType) {
-              // 数组处理
-              ConvertToJsonParamUtil.putForReferenceType(resolveClass, name, ignore, jsonObject);
-            } else if (resolveClass.isEnum()) {
-              // 枚举处理
-              PsiField[] enumFields = resolveClass.getAllFields();
-              if (enumFields.length > 0) {
-                jsonObject.addProperty(name, enumFields[1].getName());
-              }
-            } else if (ToolsUtil.isCollectionType(resolveClass)) {
-              // 集合类型处理
-              PsiType psiType = PsiUtil.extractIterableTypeParameter(type, false);
-              PsiClass collectionClass = PsiUtil.resolveClassInType(psiType);
-              if (collectionClass != null) {
-                ConvertToJsonParamUtil
-                    .putForReferenceType(collectionClass, name, ignore, jsonObject);
-              }
-            } else if(!ToolsUtil.isNormalType(resolveClass)){
-              jsonObject.add(name, ConvertToJsonParamUtil
-                  .convertJsonObject(resolveClass, false, ignore));
+  /**
+   * 省略空分支时判断字段是否省略：没有示例值的字段、Map、没有元素的数组和集合以及展开为空对象的实体
+   */
+  private static boolean isEmptyBranch(@NotNull FieldModel field,
+      @NotNull ConvertContext context) {
+    TypeKind kind = field.getKind();
+    if (kind == TypeKind.ARRAY || kind == TypeKind.COLLECTION) {
+      kind = field.getElementKind();
+    }
+    switch (kind) {
+      case NORMAL:
+        return field.getDefaultValue() == null;
+      case ENUM:
+        return BeanModelUtil.getBeanModel(Objects.requireNonNull(field.getTargetClass()),
+            context.isWithComment()).getEnumConstants().isEmpty();
+      case BEAN:
+        PsiClass targetClass = Objects.requireNonNull(field.getTargetClass());
+        PsiSubstitutor substitutor = field.getTargetSubstitutor();
+        return context.isEmptyObject(targetClass, substitutor, () -> {
+          BeanModel beanModel = BeanModelUtil.getBeanModel(targetClass, substitutor,
+              context.isWithComment(), context.getMetrics());
+          for (FieldModel targetField : beanModel.getFields()) {
+            if (!ConvertToJsonParamUtil.isEmptyBranch(targetField, context)) {
+              return false;
             }
           }
-        }
-      }
-      if (isShowComment) {
-        jsonObject.add("@comment", commentJsonObject);
-      }
+          return true;
+        });
+      default:
+        return true;
     }
-    return jsonObject;
+  }
+
+  /**
+   * 把一个类的转换结果写入 writer
+   */
+  @FunctionalInterface
+  private interface ConvertBody {
+
+    void write(@NotNull PsiClass psiClass, @NotNull JsonWriter writer,
+        @NotNull ConvertMetrics metrics) throws IOException;
   }
 }
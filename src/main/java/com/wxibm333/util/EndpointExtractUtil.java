@@ -0,0 +1,346 @@
+package com.wxibm333.util;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiArrayInitializerMemberValue;
+import com.intellij.psi.PsiArrayType;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiPrimitiveType;
+import com.intellij.psi.PsiSubstitutor;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.searches.AnnotatedElementsSearch;
+import com.intellij.psi.util.PsiUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 提取模块中 Spring 控制器的所有接口，按 {@code 请求方法 路径} 输出请求体和返回值的示例 json。
+ * <p>
+ * 多个接口共用的类型只转换一次。每个根类型使用单独的遍历上下文，展开数量和深度限制按根类型分别计算，
+ * 与单独转换该类型的结果一致；DTO 中嵌套的公共类型通过项目级片段缓存共用。
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 21:00
+ */
+public class EndpointExtractUtil {
+
+  private final static String ANNOTATION_PACKAGE = "org.springframework.web.bind.annotation.";
+  private final static String REQUEST_MAPPING = ANNOTATION_PACKAGE + "RequestMapping";
+  private final static String REQUEST_BODY = ANNOTATION_PACKAGE + "RequestBody";
+  private final static List<String> CONTROLLERS = Arrays.asList(
+      ANNOTATION_PACKAGE + "RestController", "org.springframework.stereotype.Controller");
+  /**
+   * 映射注解到请求方法，RequestMapping 的请求方法在 method 参数中
+   */
+  private final static Map<String, String> MAPPINGS = new LinkedHashMap<>();
+  /**
+   * 只包装一个返回值的类型，取第一个类型参数
+   */
+  private final static Set<String> WRAPPERS = new HashSet<>(Arrays.asList(
+      "org.springframework.http.ResponseEntity", "org.springframework.http.HttpEntity",
+      "java.util.Optional", "java.util.concurrent.Callable",
+      "java.util.concurrent.CompletableFuture", "java.util.concurrent.CompletionStage",
+      "org.springframework.web.context.request.async.DeferredResult",
+      "reactor.core.publisher.Mono"));
+  private final static String FLUX = "reactor.core.publisher.Flux";
+  private final static List<String> HTTP_METHODS = Arrays.asList("GET", "POST", "PUT", "DELETE",
+      "PATCH", "HEAD", "OPTIONS", "TRACE");
+  private final static Gson GSON = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting()
+      .create();
+
+  static {
+    MAPPINGS.put(ANNOTATION_PACKAGE + "GetMapping", "GET");
+    MAPPINGS.put(ANNOTATION_PACKAGE + "PostMapping", "POST");
+    MAPPINGS.put(ANNOTATION_PACKAGE + "PutMapping", "PUT");
+    MAPPINGS.put(ANNOTATION_PACKAGE + "DeleteMapping", "DELETE");
+    MAPPINGS.put(ANNOTATION_PACKAGE + "PatchMapping", "PATCH");
+    MAPPINGS.put(REQUEST_MAPPING, null);
+  }
+
+  /**
+   * 提取模块中所有接口的示例请求体和返回值，需要在读操作中调用
+   *
+   * @param module    模块
+   * @param indicator 进度条
+   * @return com.google.gson.JsonObject key 为 {@code 请求方法 路径}，模块中没有 Spring 时为空对象
+   * @author wangXin
+   * @date 2026-10-17 21:00
+   */
+  public static JsonObject extractEndpoints(@NotNull Module module,
+      @NotNull ProgressIndicator indicator) {
+    List<PsiClass> controllers = EndpointExtractUtil.collectControllers(module);
+    Map<String, JsonElement> converted = new HashMap<>();
+    JsonObject collection = new JsonObject();
+    indicator.setIndeterminate(false);
+    for (int i = 0; i < controllers.size(); i++) {
+      indicator.checkCanceled();
+      PsiClass controller = controllers.get(i);
+      indicator.setFraction((double) i / controllers.size());
+      indicator.setText2(controller.getQualifiedName());
+      List<String> classPaths = EndpointExtractUtil
+          .paths(controller.getModifierList(), REQUEST_MAPPING);
+      for (PsiMethod method : controller.getMethods()) {
+        EndpointExtractUtil.extractEndpoint(controller, method, classPaths, converted, collection);
+      }
+    }
+    return collection;
+  }
+
+  /**
+   * 把接口集合写入文件
+   *
+   * @param collection 接口集合
+   * @param file       输出文件，已存在时覆盖
+   * @author wangXin
+   * @date 2026-10-17 21:00
+   */
+  public static void writeCollection(@NotNull JsonObject collection, @NotNull Path file)
+      throws IOException {
+    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      GSON.toJson(collection, writer);
+    }
+  }
+
+  private static List<PsiClass> collectControllers(@NotNull Module module) {
+    JavaPsiFacade psiFacade = JavaPsiFacade.getInstance(module.getProject());
+    GlobalSearchScope librariesScope = module.getModuleWithDependenciesAndLibrariesScope(false);
+    Set<PsiClass> controllers = new HashSet<>();
+    for (String qualifiedName : CONTROLLERS) {
+      PsiClass annotation = psiFacade.findClass(qualifiedName, librariesScope);
+      if (annotation != null) {
+        controllers.addAll(AnnotatedElementsSearch
+            .searchPsiClasses(annotation, GlobalSearchScope.moduleScope(module)).findAll());
+      }
+    }
+    List<PsiClass> sorted = new ArrayList<>(controllers);
+    sorted.sort(Comparator.comparing(psiClass -> String.valueOf(psiClass.getQualifiedName())));
+    return sorted;
+  }
+
+  private static void extractEndpoint(@NotNull PsiClass controller, @NotNull PsiMethod method,
+      @NotNull List<String> classPaths, @NotNull Map<String, JsonElement> converted,
+      @NotNull JsonObject collection) {
+    PsiModifierList modifierList = method.getModifierList();
+    for (Map.Entry<String, String> mapping : MAPPINGS.entrySet()) {
+      PsiAnnotation annotation = modifierList.findAnnotation(mapping.getKey());
+      if (annotation == null) {
+        continue;
+      }
+      List<String> httpMethods = mapping.getValue() != null
+          ? Collections.singletonList(mapping.getValue())
+          : EndpointExtractUtil.requestMethods(annotation);
+      JsonObject endpoint = new JsonObject();
+      endpoint.addProperty("handler", controller.getQualifiedName() + "#" + method.getName());
+      for (PsiParameter parameter : method.getParameterList().getParameters()) {
+        PsiModifierList parameterModifiers = parameter.getModifierList();
+        if (parameterModifiers != null && parameterModifiers.findAnnotation(REQUEST_BODY) != null) {
+          JsonElement body = EndpointExtractUtil.convertType(parameter.getType(), converted);
+          if (body != null) {
+            endpoint.add("requestBody", body);
+          }
+        }
+      }
+      PsiType returnType = method.getReturnType();
+      JsonElement response = returnType == null ? null
+          : EndpointExtractUtil.convertType(returnType, converted);
+      if (response != null) {
+        endpoint.add("response", response);
+      }
+      for (String classPath : classPaths) {
+        for (String methodPath : EndpointExtractUtil.paths(modifierList, mapping.getKey())) {
+          String path = EndpointExtractUtil.joinPath(classPath, methodPath);
+          for (String httpMethod : httpMethods) {
+            String key = httpMethod + " " + path;
+            // 重复映射保留第一个
+            if (!collection.has(key)) {
+              collection.add(key, endpoint);
+            }
+          }
+        }
+      }
+      return;
+    }
+  }
+
+  /**
+   * 转换请求体、返回值类型，共用的类型只转换一次
+   *
+   * @return com.google.gson.JsonElement void 和无法确定结构的类型返回 null
+   */
+  @Nullable
+  private static JsonElement convertType(@NotNull PsiType type,
+      @NotNull Map<String, JsonElement> converted) {
+    if (PsiType.VOID.equals(type)) {
+      return null;
+    } else if (type instanceof PsiPrimitiveType) {
+      return EndpointExtractUtil.defaultValue(ToolsUtil.getDefaultValue(type));
+    } else if (type instanceof PsiArrayType) {
+      return EndpointExtractUtil
+          .arrayOf(((PsiArrayType) type).getComponentType(), converted);
+    }
+    PsiClass psiClass = PsiUtil.resolveClassInType(type);
+    if (psiClass == null) {
+      return null;
+    }
+    String qualifiedName = psiClass.getQualifiedName();
+    PsiType[] parameters = type instanceof PsiClassType
+        ? ((PsiClassType) type).getParameters() : PsiType.EMPTY_ARRAY;
+    if (WRAPPERS.contains(qualifiedName)) {
+      return parameters.length == 0 ? null
+          : EndpointExtractUtil.convertType(parameters[0], converted);
+    } else if (FLUX.equals(qualifiedName)) {
+      return parameters.length == 0 ? null
+          : EndpointExtractUtil.arrayOf(parameters[0], converted);
+    }
+    switch (TypeClassifier.classify(psiClass)) {
+      case NORMAL:
+        return EndpointExtractUtil.defaultValue(ToolsUtil.getDefaultValue(psiClass));
+      case ENUM:
+        Map<String, String> constants = BeanModelUtil.getBeanModel(psiClass, false)
+            .getEnumConstants();
+        return constants.isEmpty() ? null
+            : EndpointExtractUtil.defaultValue(constants.keySet().iterator().next());
+      case COLLECTION:
+        PsiType elementType = PsiUtil.extractIterableTypeParameter(type, false);
+        return elementType == null ? new JsonArray()
+            : EndpointExtractUtil.arrayOf(elementType, converted);
+      case MAP:
+        return new JsonObject();
+      case BEAN:
+        if (qualifiedName == null) {
+          return null;
+        }
+        // 泛型包装类按类型参数分别转换，例如 Page<UserDto> 和 Page<OrderDto>
+        PsiSubstitutor substitutor = type instanceof PsiClassType
+            ? ((PsiClassType) type).resolveGenerics().getSubstitutor() : PsiSubstitutor.EMPTY;
+        String instanceName = BeanModelUtil.instanceName(psiClass, substitutor);
+        return converted.computeIfAbsent(instanceName, name -> {
+          ConvertContext context = new ConvertContext(false, false, true);
+          try {
+            return ConvertContext.toJsonObject(writer -> ConvertToJsonParamUtil
+                .writeJsonObject(psiClass, substitutor, false, context, writer));
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      default:
+        return null;
+    }
+  }
+
+  private static JsonArray arrayOf(@NotNull PsiType elementType,
+      @NotNull Map<String, JsonElement> converted) {
+    JsonArray array = new JsonArray();
+    JsonElement element = EndpointExtractUtil.convertType(elementType, converted);
+    if (element != null) {
+      array.add(element);
+    }
+    return array;
+  }
+
+  @Nullable
+  private static JsonElement defaultValue(@Nullable Object defaultValue) {
+    if (defaultValue == null) {
+      return null;
+    }
+    JsonElementWriter writer = new JsonElementWriter();
+    try {
+      ToolsUtil.writeDefaultValue(defaultValue, writer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return writer.get();
+  }
+
+  /**
+   * 读取映射注解的 value、path 参数，常量引用按常量值计算，没有路径时返回根路径
+   */
+  private static List<String> paths(@Nullable PsiModifierList modifierList,
+      @NotNull String annotationName) {
+    PsiAnnotation annotation = modifierList == null ? null
+        : modifierList.findAnnotation(annotationName);
+    List<String> paths = new ArrayList<>();
+    if (annotation != null) {
+      for (String name : new String[]{"value", "path"}) {
+        for (PsiAnnotationMemberValue value : EndpointExtractUtil
+            .attributeValues(annotation, name)) {
+          Object constant = JavaPsiFacade.getInstance(annotation.getProject())
+              .getConstantEvaluationHelper().computeConstantExpression(value);
+          if (constant instanceof String) {
+            paths.add((String) constant);
+          }
+        }
+      }
+    }
+    return paths.isEmpty() ? Collections.singletonList("") : paths;
+  }
+
+  /**
+   * 读取 RequestMapping 的 method 参数，未指定时匹配所有请求方法
+   */
+  private static List<String> requestMethods(@NotNull PsiAnnotation annotation) {
+    List<String> methods = new ArrayList<>();
+    for (PsiAnnotationMemberValue value : EndpointExtractUtil
+        .attributeValues(annotation, "method")) {
+      String name = StringUtil.getShortName(value.getText().trim());
+      if (HTTP_METHODS.contains(name)) {
+        methods.add(name);
+      }
+    }
+    return methods.isEmpty() ? Collections.singletonList("ANY") : methods;
+  }
+
+  private static List<PsiAnnotationMemberValue> attributeValues(
+      @NotNull PsiAnnotation annotation, @NotNull String name) {
+    PsiAnnotationMemberValue value = annotation.findDeclaredAttributeValue(name);
+    if (value instanceof PsiArrayInitializerMemberValue) {
+      return Arrays.asList(((PsiArrayInitializerMemberValue) value).getInitializers());
+    }
+    return value == null ? Collections.emptyList() : Collections.singletonList(value);
+  }
+
+  /**
+   * 拼接类和方法上的映射路径，去掉多余的斜杠，两者都为空时返回 {@code /}
+   */
+  static String joinPath(@NotNull String classPath, @NotNull String methodPath) {
+    StringBuilder path = new StringBuilder();
+    for (String segment : new String[]{classPath, methodPath}) {
+      String trimmed = StringUtil.trimEnd(StringUtil.trimStart(segment.trim(), "/"), "/");
+      if (!trimmed.isEmpty()) {
+        path.append('/').append(trimmed);
+      }
+    }
+    return path.length() == 0 ? "/" : path.toString();
+  }
+}
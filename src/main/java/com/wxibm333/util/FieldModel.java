@@ -0,0 +1,103 @@
+package com.wxibm333.util;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiSubstitutor;
+import java.util.Collections;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 字段模型，一次遍历提取字段名、类型分类、元素类型、注释和验证信息，示例值和注释都基于该模型生成
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 13:30
+ */
+public class FieldModel {
+
+  private final String name;
+  private final String typeText;
+  private final TypeKind kind;
+  private final TypeKind elementKind;
+  private final PsiClass targetClass;
+  private final PsiSubstitutor targetSubstitutor;
+  private final Object defaultValue;
+  private final String comment;
+  private final List<ValidationModel> validations;
+
+  public FieldModel(@NotNull String name, @NotNull String typeText, @NotNull TypeKind kind,
+      @NotNull TypeKind elementKind, @Nullable PsiClass targetClass, @Nullable Object defaultValue,
+      @NotNull String comment, @NotNull List<ValidationModel> validations) {
+    this(name, typeText, kind, elementKind, targetClass, PsiSubstitutor.EMPTY, defaultValue,
+        comment, validations);
+  }
+
+  public FieldModel(@NotNull String name, @NotNull String typeText, @NotNull TypeKind kind,
+      @NotNull TypeKind elementKind, @Nullable PsiClass targetClass,
+      @NotNull PsiSubstitutor targetSubstitutor, @Nullable Object defaultValue,
+      @NotNull String comment, @NotNull List<ValidationModel> validations) {
+    this.name = name;
+    this.typeText = typeText;
+    this.kind = kind;
+    this.elementKind = elementKind;
+    this.targetClass = targetClass;
+    this.targetSubstitutor = targetSubstitutor;
+    this.defaultValue = defaultValue;
+    this.comment = comment;
+    this.validations = Collections.unmodifiableList(validations);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * 字段类型的展示文本，例如 List&lt;Address&gt;
+   */
+  public String getTypeText() {
+    return typeText;
+  }
+
+  public TypeKind getKind() {
+    return kind;
+  }
+
+  /**
+   * 数组、集合的元素类型分类，其他类型与 {@link #getKind()} 相同
+   */
+  public TypeKind getElementKind() {
+    return elementKind;
+  }
+
+  /**
+   * 枚举、实体类型，或者数组、集合元素的枚举、实体类型
+   */
+  @Nullable
+  public PsiClass getTargetClass() {
+    return targetClass;
+  }
+
+  /**
+   * 实体类型的类型参数，例如 {@code Page<UserDto>} 中 T 替换为 UserDto，非泛型类型为 EMPTY
+   */
+  public PsiSubstitutor getTargetSubstitutor() {
+    return targetSubstitutor;
+  }
+
+  /**
+   * 字段或元素为 {@link TypeKind#NORMAL} 时的默认值
+   */
+  @Nullable
+  public Object getDefaultValue() {
+    return defaultValue;
+  }
+
+  public String getComment() {
+    return comment;
+  }
+
+  public List<ValidationModel> getValidations() {
+    return validations;
+  }
+}
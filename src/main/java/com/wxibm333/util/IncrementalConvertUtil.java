@@ -0,0 +1,173 @@
+package com.wxibm333.util;
+
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiPackage;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiUtilCore;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 按类名、包名增量转换，供命令行等无界面场景使用。依赖的源文件都没有变化的类直接跳过
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 16:20
+ */
+public class IncrementalConvertUtil {
+
+  /**
+   * 转换类名或包名列表对应的所有类，结果写入 outputDirectory 下的 {@code 全限定名.json} 文件
+   *
+   * @param project         已打开且索引完成的项目
+   * @param targets         类全限定名或包名
+   * @param isShowComment   是否携带注释
+   * @param outputDirectory 输出目录，同时保存增量清单
+   * @param indicator       进度条
+   * @return com.wxibm333.util.IncrementalConvertUtil.Statistics
+   * @author wangXin
+   * @date 2026-10-17 16:20
+   */
+  public static Statistics convert(@NotNull Project project, @NotNull List<String> targets,
+      boolean isShowComment, @NotNull Path outputDirectory, @NotNull ProgressIndicator indicator)
+      throws IOException {
+    Files.createDirectories(outputDirectory);
+    ConvertManifest manifest = ConvertManifest.load(outputDirectory);
+    Statistics statistics = new Statistics();
+    Map<String, SmartPsiElementPointer<PsiClass>> classes = ReadAction
+        .nonBlocking(() -> IncrementalConvertUtil.resolveTargets(project, targets, statistics))
+        .wrapProgress(indicator).expireWith(project).executeSynchronously();
+    List<Map.Entry<String, SmartPsiElementPointer<PsiClass>>> entries = new ArrayList<>(
+        classes.entrySet());
+    JobLauncher.getInstance().invokeConcurrentlyUnderProgress(entries, indicator, entry -> {
+      String qualifiedName = entry.getKey();
+      Path file = outputDirectory.resolve(qualifiedName + ".json");
+      if (manifest.isUpToDate(qualifiedName, isShowComment, file)) {
+        statistics.skipped.incrementAndGet();
+        return true;
+      }
+      List<VirtualFile> dependencies;
+      try {
+        dependencies = IncrementalConvertUtil.convertClass(project, entry.getValue(), isShowComment,
+            file);
+      } catch (ProcessCanceledException e) {
+        throw e;
+      } catch (RuntimeException e) {
+        // 单个类转换失败不影响其他类
+        dependencies = null;
+      }
+      if (dependencies == null || dependencies.isEmpty()) {
+        statistics.failed.incrementAndGet();
+      } else {
+        manifest.update(qualifiedName, isShowComment, dependencies);
+        statistics.converted.incrementAndGet();
+      }
+      return true;
+    });
+    manifest.save(outputDirectory);
+    return statistics;
+  }
+
+  /**
+   * 转换单个类，返回该类依赖的所有文件
+   */
+  private static List<VirtualFile> convertClass(@NotNull Project project,
+      @NotNull SmartPsiElementPointer<PsiClass> pointer, boolean isShowComment,
+      @NotNull Path file) {
+    return ReadAction.nonBlocking(() -> {
+      PsiClass psiClass = pointer.getElement();
+      if (psiClass == null) {
+        return Collections.<VirtualFile>emptyList();
+      }
+      try {
+        ConvertToJsonParamUtil.writeJsonFile(psiClass, isShowComment, file);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      List<VirtualFile> files = new ArrayList<>();
+      for (PsiClass dependency : BeanModelUtil.collectDependencies(psiClass, isShowComment)) {
+        VirtualFile virtualFile = PsiUtilCore.getVirtualFile(dependency);
+        if (virtualFile != null && !files.contains(virtualFile)) {
+          files.add(virtualFile);
+        }
+      }
+      return files;
+    }).expireWith(project).executeSynchronously();
+  }
+
+  private static Map<String, SmartPsiElementPointer<PsiClass>> resolveTargets(
+      @NotNull Project project, @NotNull List<String> targets, @NotNull Statistics statistics) {
+    // 非阻塞读操作重启时会重新解析
+    statistics.unresolved.clear();
+    JavaPsiFacade facade = JavaPsiFacade.getInstance(project);
+    GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+    Map<String, SmartPsiElementPointer<PsiClass>> classes = new LinkedHashMap<>();
+    for (String target : targets) {
+      PsiElement element = facade.findClass(target, scope);
+      if (element == null) {
+        PsiPackage psiPackage = facade.findPackage(target);
+        element = psiPackage != null && psiPackage.getDirectories().length > 0 ? psiPackage : null;
+      }
+      if (element == null) {
+        statistics.unresolved.add(target);
+        continue;
+      }
+      for (SmartPsiElementPointer<PsiClass> pointer : BulkConvertUtil
+          .collectClasses(project, new PsiElement[]{element}, null)) {
+        PsiClass psiClass = pointer.getElement();
+        if (psiClass != null) {
+          classes.putIfAbsent(psiClass.getQualifiedName(), pointer);
+        }
+      }
+    }
+    return classes;
+  }
+
+  /**
+   * 转换统计信息
+   */
+  public static class Statistics {
+
+    private final AtomicInteger converted = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final List<String> unresolved = new ArrayList<>();
+
+    public int getConverted() {
+      return converted.get();
+    }
+
+    public int getSkipped() {
+      return skipped.get();
+    }
+
+    public int getFailed() {
+      return failed.get();
+    }
+
+    /**
+     * 找不到对应类或包的名称
+     */
+    public List<String> getUnresolved() {
+      return unresolved;
+    }
+  }
+}
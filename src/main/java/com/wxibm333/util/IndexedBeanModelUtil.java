@@ -0,0 +1,341 @@
+package com.wxibm333.util;
+
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiPrimitiveType;
+import com.intellij.psi.PsiTypeParameter;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiTypesUtil;
+import com.intellij.psi.util.PsiUtil;
+import com.intellij.psi.util.PsiUtilCore;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.wxibm333.util.BeanModelIndex.IndexedAnnotation;
+import com.wxibm333.util.BeanModelIndex.IndexedClass;
+import com.wxibm333.util.BeanModelIndex.IndexedField;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 从 {@link BeanModelIndex} 构建类模型，不遍历 getAllFields()，也不加载语法树、不解析 javadoc。
+ * <p>
+ * 索引中的类型文本按 java 的规则依次在外部类、单类型 import、当前包、按需 import 和 java.lang 中查找，
+ * 查找通过 stub 索引完成。泛型类型变量、通配符、需要替换类型参数的泛型实体，以及父类型声明了内部类、
+ * 多个父类型继承同一个声明了字段的类型等无法与 PSI 保持一致的情况返回 null，由调用方回退到 PSI。
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 22:30
+ */
+public class IndexedBeanModelUtil {
+
+  private final static Pattern QUALIFIER = Pattern.compile("(?:[A-Za-z_$][\\w$]*\\.)+");
+  /**
+   * 元素类型就是第一个类型参数的集合类型，其他集合子类型的元素类型需要 PSI 推断
+   */
+  private final static Set<String> COLLECTIONS = new HashSet<>(Arrays.asList(
+      "java.lang.Iterable", "java.util.Collection", "java.util.List", "java.util.Set",
+      "java.util.SortedSet", "java.util.NavigableSet", "java.util.Queue", "java.util.Deque",
+      "java.util.ArrayList", "java.util.LinkedList", "java.util.HashSet",
+      "java.util.LinkedHashSet", "java.util.TreeSet", "java.util.ArrayDeque", "java.util.Vector",
+      "java.util.concurrent.CopyOnWriteArrayList"));
+  private final static String VALID_PACKAGE = "javax.validation.constraints";
+
+  /**
+   * 从索引构建项目源码中类的模型，需要在读操作中调用
+   *
+   * @param psiClass    class对象
+   * @param withComment 是否携带 javadoc 注释
+   * @return com.wxibm333.util.BeanModel 未启用索引、索引不可用、类不在索引中或类型无法确定时返回 null
+   * @author wangXin
+   * @date 2026-10-17 22:30
+   */
+  @Nullable
+  public static BeanModel buildBeanModel(@NotNull PsiClass psiClass, boolean withComment) {
+    Project project = psiClass.getProject();
+    String qualifiedName = psiClass.getQualifiedName();
+    VirtualFile file = PsiUtilCore.getVirtualFile(psiClass);
+    if (!ConvertToJsonParamSettings.getInstance().useBeanModelIndex || qualifiedName == null
+        || file == null || DumbService.isDumb(project)
+        || !BeanModelUtil.isProjectSource(psiClass)) {
+      return null;
+    }
+    List<IndexedClass> values = FileBasedIndex.getInstance().getValues(BeanModelIndex.NAME,
+        qualifiedName, GlobalSearchScope.fileScope(project, file));
+    if (values.size() != 1) {
+      return null;
+    }
+    IndexedClass indexedClass = values.get(0);
+    // 继承的内部类会遮蔽同名的类，手工解析无法区分
+    if (IndexedBeanModelUtil.inheritsMemberTypes(psiClass)
+        || IndexedBeanModelUtil.hasSharedFieldOwner(psiClass)) {
+      return null;
+    }
+    Resolver resolver = new Resolver(project, indexedClass,
+        IndexedBeanModelUtil.typeParameterNames(psiClass));
+    String name = String.valueOf(psiClass.getName());
+    if (indexedClass.isEnum()) {
+      Map<String, String> enumConstants = new LinkedHashMap<>();
+      indexedClass.getEnumConstants().forEach((constant, comment) -> enumConstants
+          .put(constant, withComment ? comment : ""));
+      return new BeanModel(qualifiedName, name, true, new ArrayList<>(), enumConstants);
+    }
+    List<FieldModel> fields = new ArrayList<>();
+    for (IndexedField field : indexedClass.getFields()) {
+      FieldModel fieldModel = IndexedBeanModelUtil.buildFieldModel(field, withComment, resolver);
+      if (fieldModel == null) {
+        return null;
+      }
+      fields.add(fieldModel);
+    }
+    // 与 getAllFields() 一致，父类和接口的字段排在自身字段之后，被隐藏的同名父类字段同样保留
+    for (String supertype : indexedClass.getSupertypes()) {
+      if (supertype.indexOf('<') >= 0) {
+        // 继承的字段需要按父类的类型参数替换
+        return null;
+      }
+      PsiClass superClass = resolver.resolve(IndexedBeanModelUtil.rawName(supertype));
+      if (superClass == null) {
+        return null;
+      }
+      fields.addAll(BeanModelUtil.getBeanModel(superClass, withComment).getFields());
+    }
+    return new BeanModel(qualifiedName, name, false, fields, new LinkedHashMap<>());
+  }
+
+  /**
+   * 类及其外部类的父类型是否声明了内部类，内部类可以通过简单类名引用
+   */
+  private static boolean inheritsMemberTypes(@NotNull PsiClass psiClass) {
+    for (PsiClass scope = psiClass; scope != null; scope = scope.getContainingClass()) {
+      for (PsiClass superClass : InheritanceUtil.getSuperClasses(scope)) {
+        if (superClass.getInnerClasses().length > 0) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 多个父类型继承同一个声明了字段的类型时，getAllFields() 只返回一次这些字段，按父类型拼接字段会重复
+   */
+  private static boolean hasSharedFieldOwner(@NotNull PsiClass psiClass) {
+    Set<PsiClass> visited = new HashSet<>();
+    for (PsiClass superClass : psiClass.getSupers()) {
+      Set<PsiClass> ancestors = new HashSet<>(InheritanceUtil.getSuperClasses(superClass));
+      ancestors.add(superClass);
+      for (PsiClass ancestor : ancestors) {
+        if (!visited.add(ancestor) && ancestor.getFields().length > 0) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 类及其外部类的类型参数名称，字段类型中的同名简单类名指类型参数
+   */
+  private static Set<String> typeParameterNames(@NotNull PsiClass psiClass) {
+    Set<String> names = new HashSet<>();
+    for (PsiTypeParameter typeParameter : PsiUtil.typeParametersIterable(psiClass)) {
+      names.add(typeParameter.getName());
+    }
+    return names;
+  }
+
+  @Nullable
+  private static FieldModel buildFieldModel(@NotNull IndexedField field, boolean withComment,
+      @NotNull Resolver resolver) {
+    String name = field.getName();
+    String typeText = field.getTypeText();
+    String presentableText = QUALIFIER.matcher(typeText).replaceAll("").replace(",", ", ");
+    String comment = withComment ? field.getComment() : "";
+    List<ValidationModel> validations = new ArrayList<>();
+    for (IndexedAnnotation annotation : field.getAnnotations()) {
+      PsiClass annotationClass = resolver.resolve(annotation.getReference());
+      String annotationName = annotationClass == null ? null : annotationClass.getQualifiedName();
+      if (annotationName != null && annotationName.startsWith(VALID_PACKAGE)) {
+        validations.add(new ValidationModel(annotationName, annotation.getText(),
+            annotation.getAttributes()));
+      }
+    }
+    boolean isArray = typeText.endsWith("]") || typeText.endsWith("...");
+    String componentText = isArray ? StringUtil.trimEnd(typeText.replace("[]", ""), "...")
+        : typeText;
+    String rawName = IndexedBeanModelUtil.rawName(componentText);
+    PsiPrimitiveType primitiveType = PsiTypesUtil.boxIfPossible(rawName).equals(rawName) ? null
+        : JavaPsiFacade.getElementFactory(resolver.project).createPrimitiveType(rawName);
+    if (primitiveType != null) {
+      return new FieldModel(name, presentableText, isArray ? TypeKind.ARRAY : TypeKind.NORMAL,
+          TypeKind.NORMAL, null, PsiTypesUtil.getDefaultValue(primitiveType), comment,
+          validations);
+    }
+    PsiClass resolveClass = resolver.resolve(rawName);
+    if (resolveClass == null) {
+      // 类型变量、无法解析的类型交给 PSI
+      return null;
+    }
+    if (isArray) {
+      if (componentText.indexOf('<') >= 0) {
+        return null;
+      }
+      return BeanModelUtil.buildElementFieldModel(name, presentableText, TypeKind.ARRAY,
+          resolveClass, comment, validations);
+    }
+    switch (TypeClassifier.classify(resolveClass)) {
+      case NORMAL:
+        return new FieldModel(name, presentableText, TypeKind.NORMAL, TypeKind.NORMAL, null,
+            ToolsUtil.getDefaultValue(resolveClass), comment, validations);
+      case ENUM:
+        return new FieldModel(name, presentableText, TypeKind.ENUM, TypeKind.ENUM, resolveClass,
+            null, comment, validations);
+      case COLLECTION:
+        List<String> arguments = IndexedBeanModelUtil.typeArguments(componentText);
+        if (!COLLECTIONS.contains(resolveClass.getQualifiedName()) || arguments.size() != 1) {
+          return null;
+        }
+        String argument = arguments.get(0);
+        if (argument.startsWith("?extends")) {
+          argument = argument.substring("?extends".length());
+        }
+        if (argument.startsWith("?") || argument.endsWith("]") || argument.indexOf('<') >= 0) {
+          return null;
+        }
+        PsiClass elementClass = resolver.resolve(IndexedBeanModelUtil.rawName(argument));
+        if (elementClass == null) {
+          return null;
+        }
+        return BeanModelUtil.buildElementFieldModel(name, presentableText, TypeKind.COLLECTION,
+            elementClass, comment, validations);
+      case MAP:
+        return new FieldModel(name, presentableText, TypeKind.MAP, TypeKind.UNKNOWN, null, null,
+            comment, validations);
+      case BEAN:
+        if (componentText.indexOf('<') >= 0) {
+          // 泛型实体需要类型参数
+          return null;
+        }
+        return new FieldModel(name, presentableText, TypeKind.BEAN, TypeKind.BEAN, resolveClass,
+            null, comment, validations);
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * 去掉类型参数，例如 {@code java.util.List<Item>} 转换为 {@code java.util.List}
+   */
+  private static String rawName(@NotNull String typeText) {
+    int index = typeText.indexOf('<');
+    return index < 0 ? typeText : typeText.substring(0, index);
+  }
+
+  /**
+   * 拆分最外层的类型参数，例如 {@code Map<String,List<Item>>} 拆分为 String 和 {@code List<Item>}
+   */
+  private static List<String> typeArguments(@NotNull String typeText) {
+    List<String> arguments = new ArrayList<>();
+    int start = typeText.indexOf('<');
+    if (start < 0 || !typeText.endsWith(">")) {
+      return arguments;
+    }
+    int depth = 0;
+    int from = start + 1;
+    for (int i = from; i < typeText.length() - 1; i++) {
+      char c = typeText.charAt(i);
+      if (c == '<') {
+        depth++;
+      } else if (c == '>') {
+        depth--;
+      } else if (c == ',' && depth == 0) {
+        arguments.add(typeText.substring(from, i));
+        from = i + 1;
+      }
+    }
+    arguments.add(typeText.substring(from, typeText.length() - 1));
+    return arguments;
+  }
+
+  /**
+   * 按 java 的命名规则把类名文本解析为类，只查 stub 索引
+   */
+  private static class Resolver {
+
+    private final Project project;
+    private final IndexedClass context;
+    private final Set<String> typeParameters;
+    private final JavaPsiFacade psiFacade;
+    private final GlobalSearchScope scope;
+
+    private Resolver(@NotNull Project project, @NotNull IndexedClass context,
+        @NotNull Set<String> typeParameters) {
+      this.project = project;
+      this.context = context;
+      this.typeParameters = typeParameters;
+      this.psiFacade = JavaPsiFacade.getInstance(project);
+      this.scope = GlobalSearchScope.allScope(project);
+    }
+
+    @Nullable
+    private PsiClass resolve(@NotNull String name) {
+      int dot = name.indexOf('.');
+      String first = dot < 0 ? name : name.substring(0, dot);
+      String rest = dot < 0 ? "" : name.substring(dot);
+      if (typeParameters.contains(first)) {
+        // 类型参数遮蔽同名的类，由调用方回退到 PSI
+        return null;
+      }
+      PsiClass psiClass = this.resolveSimpleName(first, rest);
+      if (psiClass == null && dot >= 0) {
+        // 全限定名
+        psiClass = psiFacade.findClass(name, scope);
+      }
+      return psiClass;
+    }
+
+    @Nullable
+    private PsiClass resolveSimpleName(@NotNull String first, @NotNull String rest) {
+      List<String> candidates = new ArrayList<>();
+      for (String outer : context.getScopes()) {
+        candidates.add(outer + '.' + first);
+      }
+      // 外部类自身的简单类名
+      for (String outer : context.getScopes()) {
+        if (StringUtil.getShortName(outer).equals(first)) {
+          candidates.add(outer);
+        }
+      }
+      for (String singleImport : context.getSingleImports()) {
+        if (StringUtil.getShortName(singleImport).equals(first)) {
+          candidates.add(singleImport);
+        }
+      }
+      candidates.add(StringUtil.getQualifiedName(context.getPackageName(), first));
+      for (String onDemandImport : context.getOnDemandImports()) {
+        candidates.add(onDemandImport + '.' + first);
+      }
+      candidates.add("java.lang." + first);
+      for (String candidate : candidates) {
+        PsiClass psiClass = psiFacade.findClass(candidate + rest, scope);
+        if (psiClass != null) {
+          return psiClass;
+        }
+      }
+      return null;
+    }
+  }
+}
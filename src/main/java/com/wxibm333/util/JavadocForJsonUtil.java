@@ -3,14 +3,24 @@ package com.wxibm333.util;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiEnumConstant;
 import com.intellij.psi.PsiField;
-import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiNameValuePair;
+import com.intellij.psi.PsiSubstitutor;
 import com.intellij.psi.javadoc.PsiDocComment;
-import com.intellij.psi.util.PsiUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -23,6 +33,7 @@ import org.jetbrains.annotations.Nullable;
 public class JavadocForJsonUtil {
 
   private final static String VALID_PACKAGE = "javax.validation.constraints";
+  private final static String VARIANT_COMMENT = "comment";
 
   /**
    * 提取注释对象的描述信息
@@ -57,17 +68,79 @@ public class JavadocForJsonUtil {
    * @date 2020-05-09 14:38
    */
   public static JsonArray extractValidComment(PsiField field) {
+    JsonArray validJsonArray = new JsonArray();
+    for (ValidationModel validation : JavadocForJsonUtil.extractValidations(field)) {
+      validJsonArray.add(validation.getText());
+    }
+    return validJsonArray;
+  }
+
+  /**
+   * 提取字段的验证注解模型
+   *
+   * @param field 字段对象
+   * @return java.util.List
+   * @author wangXin
+   * @date 2026-10-17 13:50
+   */
+  public static List<ValidationModel> extractValidations(PsiField field) {
+    return JavadocForJsonUtil.extractValidations(field, false);
+  }
+
+  /**
+   * 提取字段的验证注解模型
+   *
+   * @param field    字段对象
+   * @param stubOnly 只使用 stub 中的信息：注解全限定名和参数值，注解文本由二者拼接，不调用 getText() 加载语法树或反编译
+   * @return java.util.List
+   * @author wangXin
+   * @date 2026-10-17 18:50
+   */
+  public static List<ValidationModel> extractValidations(PsiField field, boolean stubOnly) {
     // 获取字段的验证信息
     PsiAnnotation[] annotations = field.getAnnotations();
-    JsonArray validJsonArray = new JsonArray();
+    List<ValidationModel> validations = new ArrayList<>();
     for (PsiAnnotation annotation : annotations) {
       String qualifiedName = annotation.getQualifiedName();
       if (qualifiedName != null && qualifiedName.startsWith(VALID_PACKAGE)) {
-        String text = annotation.getText();
-        validJsonArray.add(text.substring(1));
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (PsiNameValuePair pair : annotation.getParameterList().getAttributes()) {
+          // detached value 由 stub 中保存的参数文本构建，不依赖文件语法树
+          PsiAnnotationMemberValue value = stubOnly ? pair.getDetachedValue() : pair.getValue();
+          attributes.put(pair.getName() != null ? pair.getName() : "value",
+              value != null ? value.getText() : "");
+        }
+        String text = stubOnly ? JavadocForJsonUtil.buildAnnotationText(qualifiedName, attributes)
+            : annotation.getText().substring(1);
+        validations.add(new ValidationModel(qualifiedName, text, attributes));
       }
     }
-    return validJsonArray;
+    return validations;
+  }
+
+  /**
+   * 按源码写法拼接注解文本，例如 {@code Size(min = 1, max = 10)}
+   */
+  private static String buildAnnotationText(@NotNull String qualifiedName,
+      @NotNull Map<String, String> attributes) {
+    StringBuilder text = new StringBuilder(StringUtil.getShortName(qualifiedName));
+    if (attributes.isEmpty()) {
+      return text.toString();
+    }
+    text.append('(');
+    if (attributes.size() == 1 && attributes.containsKey("value")) {
+      text.append(attributes.get("value"));
+    } else {
+      boolean first = true;
+      for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+        if (!first) {
+          text.append(", ");
+        }
+        text.append(attribute.getKey()).append(" = ").append(attribute.getValue());
+        first = false;
+      }
+    }
+    return text.append(')').toString();
   }
 
   /**
@@ -104,15 +177,44 @@ public class JavadocForJsonUtil {
    * @date 2020-05-09 14:40
    */
   public static JsonObject generateReferenceComment(@Nullable PsiClass psiClass) {
-    JsonObject jsonObject = new JsonObject();
-    if (psiClass != null) {
-      PsiField[] allFields = psiClass.getAllFields();
-      for (PsiField field : allFields) {
-        jsonObject.add(field.getName(), JavadocForJsonUtil.generateDocComment(field));
-      }
-      return jsonObject;
+    if (psiClass == null) {
+      return null;
+    }
+    ConvertContext context = new ConvertContext(true, false, true);
+    try {
+      return ConvertContext.toJsonObject(
+          writer -> JavadocForJsonUtil.writeReferenceComment(psiClass, context, writer));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
     }
-    return null;
+  }
+
+  /**
+   * 把引用类型所有字段的注释信息写入 writer，循环引用的类型输出 $ref 标记
+   *
+   * @param psiClass 引用类型
+   * @param context  遍历上下文
+   * @param writer   输出目标
+   * @author wangXin
+   * @date 2026-10-17 11:20
+   */
+  public static void writeReferenceComment(@NotNull PsiClass psiClass,
+      @NotNull ConvertContext context, @NotNull JsonWriter writer) throws IOException {
+    JavadocForJsonUtil.writeReferenceComment(psiClass, PsiSubstitutor.EMPTY, context, writer);
+  }
+
+  private static void writeReferenceComment(@NotNull PsiClass psiClass,
+      @NotNull PsiSubstitutor substitutor, @NotNull ConvertContext context,
+      @NotNull JsonWriter writer) throws IOException {
+    context.expand(psiClass, substitutor, VARIANT_COMMENT, writer, target -> {
+      target.beginObject();
+      BeanModel beanModel = BeanModelUtil.getBeanModel(psiClass, substitutor, true, null);
+      for (FieldModel field : beanModel.getFields()) {
+        target.name(field.getName());
+        JavadocForJsonUtil.writeDocComment(field, context, target);
+      }
+      target.endObject();
+    });
   }
 
   /**
@@ -170,57 +272,52 @@ public class JavadocForJsonUtil {
    * @date 2020-05-09 9:15
    */
   public static JsonObject generateDocComment(@NotNull PsiField field) {
+    FieldModel fieldModel = BeanModelUtil.buildFieldModel(field, true);
+    ConvertContext context = new ConvertContext(true, false, true);
+    try {
+      return ConvertContext.toJsonObject(
+          writer -> JavadocForJsonUtil.writeDocComment(fieldModel, context, writer));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 
-    JsonObject commentJsonObject = new JsonObject();
-    PsiDocComment docComment = field.getDocComment();
-    String descriptionComment = JavadocForJsonUtil.extractDescriptionComment(docComment);
-    // 获取字段类型
-    PsiType type = field.getType();
-    JsonArray validComment = JavadocForJsonUtil.extractValidComment(field);
-    // 判断字段类型是否是原始数据类型以及封装类型
-    boolean isPrimitiveOrNormalType = ToolsUtil.isPrimitiveOrNormalType(type);
-    commentJsonObject.addProperty("comment", descriptionComment);
-    if (isPrimitiveOrNormalType) {
+  /**
+   * 根据字段模型把注释对象信息写入 writer，嵌套类型通过遍历上下文展开
+   *
+   * @param field   字段模型
+   * @param context 遍历上下文
+   * @param writer  输出目标
+   * @author wangXin
+   * @date 2026-10-17 13:50
+   */
+  public static void writeDocComment(@NotNull FieldModel field, @NotNull ConvertContext context,
+      @NotNull JsonWriter writer) throws IOException {
+    ProgressManager.checkCanceled();
+    writer.beginObject();
+    writer.name("comment").value(field.getComment());
+    PsiClass targetClass = field.getTargetClass();
+    if (field.getKind() == TypeKind.NORMAL) {
       // 基础数据类型，加上验证注释信息
-      commentJsonObject.add("valid", validComment);
-    } else {
-      PsiClass resolveClass = PsiUtil.resolveClassInType(type);
-      if (resolveClass != null) {
-        if (resolveClass.isEnum()) {
-          // 枚举处理,就算是数组枚举类型，也在该处处理
-          JsonObject jsonObject = JavadocForJsonUtil.extractEnumComment(resolveClass);
-          JavadocForJsonUtil
-              .appendToJsonObject(jsonObject != null, "optionalValue", jsonObject,
-                  commentJsonObject);
-        } else if (ToolsUtil.isCollectionType(resolveClass)) {
-          // 集合类型处理，提取集合类泛型类型,泛型类型有可能是泛型
-          PsiType psiType = PsiUtil.extractIterableTypeParameter(type, false);
-          PsiClass collectionClass = PsiUtil.resolveClassInType(psiType);
-          if(collectionClass != null){
-            if(collectionClass.isEnum()){
-              JsonObject jsonObject = JavadocForJsonUtil.extractEnumComment(resolveClass);
-              JavadocForJsonUtil
-                  .appendToJsonObject(jsonObject != null, "optionalValue", jsonObject,
-                      commentJsonObject);
-            }else if(!ToolsUtil.isNormalType(collectionClass)){
-              JsonObject collectionDocComment = JavadocForJsonUtil.generateReferenceComment(resolveClass);
-              JavadocForJsonUtil
-                  .appendToJsonObject(collectionDocComment != null, resolveClass.getName(),
-                      collectionDocComment,
-                      commentJsonObject);
-            }
-          }
-        } else if(!ToolsUtil.isNormalType(resolveClass)){
-          // 普通实体类,有可能是基础数据类型的数组，需要排除
-          JsonObject collectionDocComment = JavadocForJsonUtil.generateReferenceComment(resolveClass);
-          JavadocForJsonUtil
-              .appendToJsonObject(collectionDocComment != null, resolveClass.getName(),
-                  collectionDocComment,
-                  commentJsonObject);
-        }
+      writer.name("valid").beginArray();
+      for (ValidationModel validation : field.getValidations()) {
+        writer.value(validation.getText());
+      }
+      writer.endArray();
+    } else if (targetClass != null && field.getElementKind() == TypeKind.ENUM) {
+      // 枚举、实体类型以及数组、集合的元素类型都在该处处理
+      writer.name("optionalValue").beginObject();
+      BeanModel enumModel = BeanModelUtil.getBeanModel(targetClass, true);
+      for (Map.Entry<String, String> entry : enumModel.getEnumConstants().entrySet()) {
+        writer.name(entry.getKey()).value(entry.getValue());
       }
+      writer.endObject();
+    } else if (targetClass != null && field.getElementKind() == TypeKind.BEAN) {
+      writer.name(String.valueOf(targetClass.getName()));
+      JavadocForJsonUtil
+          .writeReferenceComment(targetClass, field.getTargetSubstitutor(), context, writer);
     }
-    return commentJsonObject;
+    writer.endObject();
   }
 
 }
@@ -0,0 +1,175 @@
+package com.wxibm333.util;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 把写入的内容构建成 JsonElement 树，只使用 gson 的公开 API
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 23:50
+ */
+class JsonElementWriter extends JsonWriter {
+
+  private final Deque<JsonElement> stack = new ArrayDeque<>();
+  private String pendingName;
+  private JsonElement product = JsonNull.INSTANCE;
+
+  JsonElementWriter() {
+    // 内容只构建成树，自身不写出
+    super(new StringWriter());
+  }
+
+  /**
+   * 已写入的完整 json 值
+   *
+   * @return com.google.gson.JsonElement
+   * @author wangXin
+   * @date 2026-10-17 23:50
+   */
+  @NotNull
+  JsonElement get() {
+    if (!stack.isEmpty() || pendingName != null) {
+      throw new IllegalStateException("Incomplete document");
+    }
+    return product;
+  }
+
+  private JsonWriter put(@NotNull JsonElement value) {
+    JsonElement parent = stack.peek();
+    if (pendingName != null) {
+      if (!value.isJsonNull() || this.getSerializeNulls()) {
+        ((JsonObject) parent).add(pendingName, value);
+      }
+      pendingName = null;
+    } else if (parent == null) {
+      product = value;
+    } else if (parent.isJsonArray()) {
+      parent.getAsJsonArray().add(value);
+    } else {
+      throw new IllegalStateException("Expected a name before the value");
+    }
+    return this;
+  }
+
+  private void checkFinite(double value) {
+    if (!this.isLenient() && (Double.isNaN(value) || Double.isInfinite(value))) {
+      throw new IllegalArgumentException("JSON forbids NaN and infinities: " + value);
+    }
+  }
+
+  @Override
+  public JsonWriter beginArray() {
+    JsonArray array = new JsonArray();
+    this.put(array);
+    stack.push(array);
+    return this;
+  }
+
+  @Override
+  public JsonWriter endArray() {
+    if (pendingName != null || stack.isEmpty() || !stack.peek().isJsonArray()) {
+      throw new IllegalStateException("Nesting problem");
+    }
+    stack.pop();
+    return this;
+  }
+
+  @Override
+  public JsonWriter beginObject() {
+    JsonObject object = new JsonObject();
+    this.put(object);
+    stack.push(object);
+    return this;
+  }
+
+  @Override
+  public JsonWriter endObject() {
+    if (pendingName != null || stack.isEmpty() || !stack.peek().isJsonObject()) {
+      throw new IllegalStateException("Nesting problem");
+    }
+    stack.pop();
+    return this;
+  }
+
+  @Override
+  public JsonWriter name(String name) {
+    if (name == null) {
+      throw new NullPointerException("name == null");
+    }
+    if (pendingName != null || stack.isEmpty() || !stack.peek().isJsonObject()) {
+      throw new IllegalStateException("Nesting problem");
+    }
+    pendingName = name;
+    return this;
+  }
+
+  @Override
+  public JsonWriter value(String value) {
+    return value == null ? this.nullValue() : this.put(new JsonPrimitive(value));
+  }
+
+  @Override
+  public JsonWriter jsonValue(String value) {
+    return value == null ? this.nullValue() : this.put(JsonParser.parseString(value));
+  }
+
+  @Override
+  public JsonWriter nullValue() {
+    return this.put(JsonNull.INSTANCE);
+  }
+
+  @Override
+  public JsonWriter value(boolean value) {
+    return this.put(new JsonPrimitive(value));
+  }
+
+  @Override
+  public JsonWriter value(Boolean value) {
+    return value == null ? this.nullValue() : this.put(new JsonPrimitive(value));
+  }
+
+  @Override
+  public JsonWriter value(double value) {
+    this.checkFinite(value);
+    return this.put(new JsonPrimitive(value));
+  }
+
+  @Override
+  public JsonWriter value(long value) {
+    return this.put(new JsonPrimitive(value));
+  }
+
+  @Override
+  public JsonWriter value(Number value) {
+    if (value == null) {
+      return this.nullValue();
+    }
+    if (value instanceof Double || value instanceof Float) {
+      this.checkFinite(value.doubleValue());
+    }
+    return this.put(new JsonPrimitive(value));
+  }
+
+  @Override
+  public void flush() {
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!stack.isEmpty() || pendingName != null) {
+      throw new IOException("Incomplete document");
+    }
+  }
+}
@@ -0,0 +1,286 @@
+package com.wxibm333.util;
+
+import com.google.gson.JsonObject;
+import com.intellij.ProjectTopics;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootEvent;
+import com.intellij.openapi.roots.ModuleRootListener;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiSubstitutor;
+import com.intellij.psi.PsiTreeChangeAdapter;
+import com.intellij.psi.PsiTreeChangeEvent;
+import com.intellij.psi.util.PsiTreeUtil;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 项目级的类转换结果缓存，key 为类全限定名（泛型类包含类型参数）加转换参数，value 为生成的 json 片段及其依赖的类。
+ * <p>
+ * 每个片段记录生成时展开过的所有类（包括父类、字段类型、集合元素类型和枚举类型）。类被修改时只淘汰依赖它的片段，
+ * 其他片段继续有效；新增、删除 java 文件以及项目依赖变化时清空缓存。容量超过上限时按 LRU 淘汰。
+ * 缓存中的 json 片段是共享对象，调用方不允许修改。
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 10:20
+ */
+public class JsonFragmentCache implements Disposable {
+
+  private final static int MAX_SIZE = 1024;
+
+  private final Map<String, Fragment> fragments = new LinkedHashMap<String, Fragment>(64, 0.75F,
+      true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Fragment> eldest) {
+      if (size() > MAX_SIZE) {
+        JsonFragmentCache.this.unindex(eldest.getKey(), eldest.getValue());
+        return true;
+      }
+      return false;
+    }
+  };
+  /**
+   * 类全限定名到依赖它的片段 key
+   */
+  private final Map<String, Set<String>> dependents = new HashMap<>();
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  public JsonFragmentCache(@NotNull Project project) {
+    PsiManager.getInstance(project).addPsiTreeChangeListener(new ChangeListener(), this);
+    project.getMessageBus().connect(this)
+        .subscribe(ProjectTopics.PROJECT_ROOTS, new ModuleRootListener() {
+          @Override
+          public void rootsChanged(@NotNull ModuleRootEvent event) {
+            JsonFragmentCache.this.clear();
+          }
+        });
+  }
+
+  public static JsonFragmentCache getInstance(@NotNull Project project) {
+    return ServiceManager.getService(project, JsonFragmentCache.class);
+  }
+
+  @Nullable
+  private static String keyOf(@NotNull PsiClass psiClass, @NotNull PsiSubstitutor substitutor,
+      @NotNull String variant, boolean ignore) {
+    // 匿名类、局部类没有全限定名，不缓存
+    return psiClass.getQualifiedName() == null ? null
+        : BeanModelUtil.instanceName(psiClass, substitutor) + '#' + variant + '#' + ignore;
+  }
+
+  /**
+   * 从缓存获取类的 json 片段
+   *
+   * @param psiClass    class对象
+   * @param substitutor 泛型类的类型参数
+   * @param variant     片段类型，例如示例值、注释
+   * @param ignore      忽略标识
+   * @return com.wxibm333.util.JsonFragmentCache.Fragment 不存在时返回 null
+   * @author wangXin
+   * @date 2026-10-17 10:20
+   */
+  @Nullable
+  public Fragment get(@NotNull PsiClass psiClass, @NotNull PsiSubstitutor substitutor,
+      @NotNull String variant, boolean ignore) {
+    String key = JsonFragmentCache.keyOf(psiClass, substitutor, variant, ignore);
+    Fragment fragment;
+    synchronized (this) {
+      fragment = key == null ? null : fragments.get(key);
+    }
+    if (fragment != null) {
+      hitCount.incrementAndGet();
+    } else {
+      missCount.incrementAndGet();
+    }
+    return fragment;
+  }
+
+  /**
+   * 缓存类的 json 片段
+   *
+   * @param psiClass     class对象
+   * @param substitutor  泛型类的类型参数
+   * @param variant      片段类型，例如示例值、注释
+   * @param ignore       忽略标识
+   * @param jsonObject   json 片段
+   * @param dependencies 生成片段时展开过的所有类的全限定名，其中任意一个被修改时片段失效
+   * @author wangXin
+   * @date 2026-10-17 18:10
+   */
+  public void put(@NotNull PsiClass psiClass, @NotNull PsiSubstitutor substitutor,
+      @NotNull String variant, boolean ignore, @NotNull JsonObject jsonObject,
+      @NotNull Set<String> dependencies) {
+    String key = JsonFragmentCache.keyOf(psiClass, substitutor, variant, ignore);
+    if (key == null) {
+      return;
+    }
+    Fragment fragment = new Fragment(jsonObject, dependencies);
+    synchronized (this) {
+      Fragment previous = fragments.put(key, fragment);
+      if (previous != null) {
+        this.unindex(key, previous);
+      }
+      for (String dependency : fragment.dependencies) {
+        dependents.computeIfAbsent(dependency, name -> new HashSet<>()).add(key);
+      }
+    }
+  }
+
+  /**
+   * 淘汰依赖该类的所有片段
+   *
+   * @param qualifiedName 被修改的类全限定名
+   * @author wangXin
+   * @date 2026-10-17 18:10
+   */
+  public synchronized void invalidate(@NotNull String qualifiedName) {
+    Set<String> keys = dependents.remove(qualifiedName);
+    if (keys == null) {
+      return;
+    }
+    for (String key : keys) {
+      Fragment fragment = fragments.remove(key);
+      if (fragment != null) {
+        this.unindex(key, fragment);
+      }
+    }
+  }
+
+  public synchronized void clear() {
+    fragments.clear();
+    dependents.clear();
+  }
+
+  private void unindex(@NotNull String key, @NotNull Fragment fragment) {
+    for (String dependency : fragment.dependencies) {
+      Set<String> keys = dependents.get(dependency);
+      if (keys != null) {
+        keys.remove(key);
+        if (keys.isEmpty()) {
+          dependents.remove(dependency);
+        }
+      }
+    }
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public synchronized int size() {
+    return fragments.size();
+  }
+
+  @Override
+  public void dispose() {
+    this.clear();
+  }
+
+  /**
+   * 缓存的 json 片段
+   */
+  public static class Fragment {
+
+    private final JsonObject jsonObject;
+    private final Set<String> dependencies;
+
+    private Fragment(@NotNull JsonObject jsonObject, @NotNull Set<String> dependencies) {
+      this.jsonObject = jsonObject;
+      this.dependencies = Collections.unmodifiableSet(new HashSet<>(dependencies));
+    }
+
+    public JsonObject getJsonObject() {
+      return jsonObject;
+    }
+
+    /**
+     * 生成片段时展开过的所有类的全限定名
+     */
+    public Set<String> getDependencies() {
+      return dependencies;
+    }
+  }
+
+  /**
+   * 把 PSI 修改映射到被修改的类
+   */
+  private class ChangeListener extends PsiTreeChangeAdapter {
+
+    @Override
+    public void childAdded(@NotNull PsiTreeChangeEvent event) {
+      this.onChange(event);
+    }
+
+    @Override
+    public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+      this.onChange(event);
+    }
+
+    @Override
+    public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+      this.onChange(event);
+    }
+
+    @Override
+    public void childMoved(@NotNull PsiTreeChangeEvent event) {
+      this.onChange(event);
+    }
+
+    @Override
+    public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+      this.onChange(event);
+    }
+
+    @Override
+    public void propertyChanged(@NotNull PsiTreeChangeEvent event) {
+      this.onChange(event);
+    }
+
+    private void onChange(@NotNull PsiTreeChangeEvent event) {
+      PsiFile file = event.getFile();
+      if (file == null) {
+        // 文件、目录级别的变化（新增、删除、移动、重命名）可能让原来无法解析的类型变得可以解析
+        PsiElement child = event.getChild() != null ? event.getChild() : event.getElement();
+        if (child instanceof PsiJavaFile || child instanceof PsiDirectory || child == null) {
+          JsonFragmentCache.this.clear();
+        }
+        return;
+      }
+      if (!(file instanceof PsiJavaFile) || !file.isPhysical()) {
+        return;
+      }
+      PsiElement element = event.getParent() != null ? event.getParent() : event.getElement();
+      PsiClass psiClass = PsiTreeUtil.getParentOfType(element, PsiClass.class, false);
+      if (psiClass != null && psiClass.getQualifiedName() != null) {
+        JsonFragmentCache.this.invalidate(psiClass.getQualifiedName());
+        return;
+      }
+      // 类外部的修改（例如 import、package）影响文件中所有类的解析
+      for (PsiClass fileClass : PsiTreeUtil.findChildrenOfType(file, PsiClass.class)) {
+        String qualifiedName = fileClass.getQualifiedName();
+        if (qualifiedName != null) {
+          JsonFragmentCache.this.invalidate(qualifiedName);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,424 @@
+package com.wxibm333.util;
+
+import com.google.gson.stream.JsonWriter;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiSubstitutor;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 生成 draft 2020-12 JSON Schema。
+ * <p>
+ * 每个实体类、枚举只在 {@code $defs} 中定义一次，字段通过 {@code $ref} 引用，循环引用不需要特殊处理，输出大小与类数量成线性关系。
+ * javadoc 对应 description，枚举常量对应 enum，
+ * {@code javax.validation.constraints} 注解对应 minLength、pattern、minimum 等关键字。
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 19:10
+ */
+public class JsonSchemaUtil {
+
+  public final static String SCHEMA_DIALECT = "https://json-schema.org/draft/2020-12/schema";
+  private final static String DEFS_PREFIX = "#/$defs/";
+  private final static Map<String, String> TYPES = new HashMap<>();
+  private final static Map<String, String> FORMATS = new HashMap<>();
+
+  static {
+    for (String type : new String[]{"byte", "short", "int", "long", "Byte", "Short", "Integer",
+        "Long"}) {
+      TYPES.put(type, "integer");
+    }
+    for (String type : new String[]{"float", "double", "Float", "Double", "BigDecimal"}) {
+      TYPES.put(type, "number");
+    }
+    TYPES.put("boolean", "boolean");
+    TYPES.put("Boolean", "boolean");
+    FORMATS.put("Date", "date-time");
+    FORMATS.put("LocalDateTime", "date-time");
+    FORMATS.put("LocalDate", "date");
+    FORMATS.put("LocalTime", "time");
+  }
+
+  /**
+   * 把类及其引用的所有实体类、枚举的 schema 写入 writer，需要在读操作中调用
+   *
+   * @param psiClass 根类
+   * @param writer   输出目标
+   * @param metrics  本次转换的统计信息
+   * @author wangXin
+   * @date 2026-10-17 19:10
+   */
+  public static void writeSchema(@NotNull PsiClass psiClass, @NotNull JsonWriter writer,
+      @Nullable ConvertMetrics metrics) throws IOException {
+    Map<String, Pair<PsiClass, PsiSubstitutor>> definitions = JsonSchemaUtil
+        .collectDefinitions(psiClass, metrics);
+    writer.beginObject();
+    writer.name("$schema").value(SCHEMA_DIALECT);
+    writer.name("$ref").value(JsonSchemaUtil.refOf(definitions.keySet().iterator().next()));
+    writer.name("$defs").beginObject();
+    for (Map.Entry<String, Pair<PsiClass, PsiSubstitutor>> definition : definitions.entrySet()) {
+      ProgressManager.checkCanceled();
+      writer.name(definition.getKey());
+      JsonSchemaUtil.writeDefinition(definition.getValue().first, definition.getValue().second,
+          definitions.keySet(), writer, metrics);
+    }
+    writer.endObject();
+    writer.endObject();
+  }
+
+  /**
+   * 按广度优先收集根类引用到的所有实体类和枚举，key 为 $defs 中的名称，泛型类按实例化分别定义，
+   * 例如 {@code com.example.Page<com.example.UserDto>}。类型参数不断嵌套的泛型类（例如 Node<List<T>>）实例化无穷多，
+   * 定义数量达到展开上限后不再收集，引用处输出 {@code {"type": "object"}}
+   */
+  private static Map<String, Pair<PsiClass, PsiSubstitutor>> collectDefinitions(
+      @NotNull PsiClass root, @Nullable ConvertMetrics metrics) {
+    int maxNodes = ConvertToJsonParamSettings.getInstance().maxNodes;
+    Map<String, Pair<PsiClass, PsiSubstitutor>> definitions = new LinkedHashMap<>();
+    Deque<Pair<PsiClass, PsiSubstitutor>> queue = new ArrayDeque<>();
+    Pair<PsiClass, PsiSubstitutor> rootInstance = Pair.create(root, PsiSubstitutor.EMPTY);
+    definitions.put(BeanModelUtil.instanceName(root, PsiSubstitutor.EMPTY), rootInstance);
+    queue.add(rootInstance);
+    while (!queue.isEmpty()) {
+      ProgressManager.checkCanceled();
+      Pair<PsiClass, PsiSubstitutor> instance = queue.poll();
+      for (FieldModel field : BeanModelUtil
+          .getBeanModel(instance.first, instance.second, true, metrics).getFields()) {
+        PsiClass targetClass = field.getTargetClass();
+        if (targetClass == null || definitions.size() >= maxNodes) {
+          continue;
+        }
+        Pair<PsiClass, PsiSubstitutor> target = Pair
+            .create(targetClass, field.getTargetSubstitutor());
+        if (definitions.putIfAbsent(JsonSchemaUtil.nameOf(field), target) == null) {
+          queue.add(target);
+        }
+      }
+    }
+    return definitions;
+  }
+
+  private static void writeDefinition(@NotNull PsiClass psiClass,
+      @NotNull PsiSubstitutor substitutor, @NotNull Set<String> definitions,
+      @NotNull JsonWriter writer, @Nullable ConvertMetrics metrics) throws IOException {
+    if (metrics != null) {
+      metrics.incrementClasses();
+    }
+    BeanModel beanModel = BeanModelUtil.getBeanModel(psiClass, substitutor, true, metrics);
+    writer.beginObject();
+    String description = JsonSchemaUtil.extractClassComment(psiClass);
+    if (!description.isEmpty()) {
+      writer.name("description").value(description);
+    }
+    if (beanModel.isEnum()) {
+      writer.name("enum").beginArray();
+      for (String enumConstant : beanModel.getEnumConstants().keySet()) {
+        writer.value(enumConstant);
+      }
+      writer.endArray();
+      writer.endObject();
+      return;
+    }
+    writer.name("type").value("object");
+    writer.name("properties").beginObject();
+    List<String> required = new ArrayList<>();
+    for (FieldModel field : beanModel.getFields()) {
+      ProgressManager.checkCanceled();
+      if (metrics != null) {
+        metrics.incrementFields();
+      }
+      writer.name(field.getName());
+      if (JsonSchemaUtil.writeFieldSchema(field, definitions, writer)) {
+        required.add(field.getName());
+      }
+    }
+    writer.endObject();
+    if (!required.isEmpty()) {
+      writer.name("required").beginArray();
+      for (String name : required) {
+        writer.value(name);
+      }
+      writer.endArray();
+    }
+    writer.endObject();
+  }
+
+  /**
+   * 写入字段的 schema
+   *
+   * @return boolean 字段是否必填
+   */
+  private static boolean writeFieldSchema(@NotNull FieldModel field,
+      @NotNull Set<String> definitions, @NotNull JsonWriter writer) throws IOException {
+    writer.beginObject();
+    if (!field.getComment().isEmpty()) {
+      writer.name("description").value(field.getComment());
+    }
+    String type;
+    switch (field.getKind()) {
+      case NORMAL:
+        type = JsonSchemaUtil.writeScalarType(field.getTypeText(), field.getDefaultValue(),
+            writer);
+        break;
+      case ENUM:
+      case BEAN:
+        type = JsonSchemaUtil.writeReference(field, definitions, writer);
+        break;
+      case ARRAY:
+      case COLLECTION:
+        type = "array";
+        writer.name("type").value(type);
+        JsonSchemaUtil.writeItems(field, definitions, writer);
+        break;
+      case MAP:
+        type = "object";
+        writer.name("type").value(type);
+        break;
+      default:
+        type = null;
+        break;
+    }
+    boolean required = false;
+    for (ValidationModel validation : field.getValidations()) {
+      required |= JsonSchemaUtil.writeValidation(validation, type, writer);
+    }
+    writer.endObject();
+    return required;
+  }
+
+  private static void writeItems(@NotNull FieldModel field, @NotNull Set<String> definitions,
+      @NotNull JsonWriter writer) throws IOException {
+    switch (field.getElementKind()) {
+      case NORMAL:
+        writer.name("items").beginObject();
+        JsonSchemaUtil.writeScalarType(JsonSchemaUtil.elementTypeText(field.getTypeText()),
+            field.getDefaultValue(), writer);
+        writer.endObject();
+        break;
+      case ENUM:
+      case BEAN:
+        writer.name("items").beginObject();
+        JsonSchemaUtil.writeReference(field, definitions, writer);
+        writer.endObject();
+        break;
+      default:
+        break;
+    }
+  }
+
+  /**
+   * 写入字段类型（数组、集合为元素类型）的 $ref，超出定义数量上限未收集的类型写入 {@code "type": "object"}
+   *
+   * @return java.lang.String 写入的 type，写入 $ref 时为 null
+   */
+  @Nullable
+  private static String writeReference(@NotNull FieldModel field,
+      @NotNull Set<String> definitions, @NotNull JsonWriter writer) throws IOException {
+    String name = JsonSchemaUtil.nameOf(field);
+    if (!definitions.contains(name)) {
+      writer.name("type").value("object");
+      return "object";
+    }
+    writer.name("$ref").value(JsonSchemaUtil.refOf(name));
+    return null;
+  }
+
+  /**
+   * 写入原始数据类型、封装类型以及日期等常用类型的 type 和 format
+   *
+   * @return java.lang.String 写入的 type
+   */
+  private static String writeScalarType(@NotNull String typeText, @Nullable Object defaultValue,
+      @NotNull JsonWriter writer) throws IOException {
+    String type = TYPES.get(typeText);
+    if (type == null) {
+      type = defaultValue instanceof Boolean ? "boolean" : "string";
+    }
+    writer.name("type").value(type);
+    String format = FORMATS.get(typeText);
+    if (format != null) {
+      writer.name("format").value(format);
+    }
+    return type;
+  }
+
+  /**
+   * 从 {@code List<LocalDate>}、{@code int[][]} 等类型文本中取出元素类型
+   */
+  static String elementTypeText(@NotNull String typeText) {
+    String elementType = typeText;
+    int start = elementType.lastIndexOf('<');
+    if (start >= 0) {
+      int end = elementType.indexOf('>', start);
+      elementType = elementType.substring(start + 1, end > start ? end : elementType.length());
+    }
+    return StringUtil.trimEnd(elementType.replace("[]", "").trim(), "...");
+  }
+
+  /**
+   * 把验证注解转换成 schema 关键字，无法识别的注解和无法解析的参数值忽略
+   *
+   * @param validation 验证注解
+   * @param type       字段的 schema type，引用类型为 null
+   * @param writer     输出目标
+   * @return boolean 注解是否表示字段必填
+   */
+  private static boolean writeValidation(@NotNull ValidationModel validation,
+      @Nullable String type, @NotNull JsonWriter writer) throws IOException {
+    Map<String, String> attributes = validation.getAttributes();
+    boolean isString = "string".equals(type);
+    boolean isArray = "array".equals(type);
+    switch (StringUtil.getShortName(validation.getQualifiedName())) {
+      case "NotNull":
+        return true;
+      case "NotBlank":
+      case "NotEmpty":
+        if (isString) {
+          writer.name("minLength").value(1);
+        } else if (isArray) {
+          writer.name("minItems").value(1);
+        }
+        return true;
+      case "Size":
+        JsonSchemaUtil.writeNumber(isArray ? "minItems" : "minLength", attributes.get("min"),
+            writer);
+        JsonSchemaUtil.writeNumber(isArray ? "maxItems" : "maxLength", attributes.get("max"),
+            writer);
+        return false;
+      case "Min":
+        JsonSchemaUtil.writeNumber("minimum", attributes.get("value"), writer);
+        return false;
+      case "Max":
+        JsonSchemaUtil.writeNumber("maximum", attributes.get("value"), writer);
+        return false;
+      case "DecimalMin":
+        JsonSchemaUtil.writeNumber("false".equals(attributes.get("inclusive"))
+            ? "exclusiveMinimum" : "minimum", attributes.get("value"), writer);
+        return false;
+      case "DecimalMax":
+        JsonSchemaUtil.writeNumber("false".equals(attributes.get("inclusive"))
+            ? "exclusiveMaximum" : "maximum", attributes.get("value"), writer);
+        return false;
+      case "Positive":
+        writer.name("exclusiveMinimum").value(0);
+        return false;
+      case "PositiveOrZero":
+        writer.name("minimum").value(0);
+        return false;
+      case "Negative":
+        writer.name("exclusiveMaximum").value(0);
+        return false;
+      case "NegativeOrZero":
+        writer.name("maximum").value(0);
+        return false;
+      case "Pattern":
+        String regexp = JsonSchemaUtil.unquote(attributes.get("regexp"));
+        if (regexp != null) {
+          writer.name("pattern").value(regexp);
+        }
+        return false;
+      case "Email":
+        writer.name("format").value("email");
+        return false;
+      case "AssertTrue":
+        writer.name("const").value(true);
+        return false;
+      case "AssertFalse":
+        writer.name("const").value(false);
+        return false;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * 写入数值关键字，参数值是源码文本，例如 {@code 10}、{@code 10L}、{@code "0.01"}，常量引用等无法解析的值忽略
+   */
+  private static void writeNumber(@NotNull String keyword, @Nullable String text,
+      @NotNull JsonWriter writer) throws IOException {
+    BigDecimal value = JsonSchemaUtil.parseNumber(text);
+    if (value != null) {
+      writer.name(keyword).value(value);
+    }
+  }
+
+  /**
+   * 解析注解参数中的数值源码文本
+   *
+   * @return java.math.BigDecimal 常量引用等无法在 stub 中求值时返回 null
+   */
+  @Nullable
+  static BigDecimal parseNumber(@Nullable String text) {
+    String value = JsonSchemaUtil.unquote(text);
+    if (value == null) {
+      return null;
+    }
+    value = StringUtil.trimEnd(StringUtil.trimEnd(value, "L"), "l").replace("_", "");
+    try {
+      return new BigDecimal(value);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  @Nullable
+  private static String unquote(@Nullable String text) {
+    if (text == null) {
+      return null;
+    }
+    String value = text.trim();
+    if (StringUtil.isQuotedString(value)) {
+      return StringUtil.unescapeStringCharacters(StringUtil.unquoteString(value));
+    }
+    return value;
+  }
+
+  private static String extractClassComment(@NotNull PsiClass psiClass) {
+    // javadoc 不在 stub 中，快速模式下只读取项目源码的 javadoc
+    if (ConvertToJsonParamSettings.getInstance().fastMode
+        && !BeanModelUtil.isProjectSource(psiClass)) {
+      return "";
+    }
+    return JavadocForJsonUtil.extractDescriptionComment(psiClass.getDocComment());
+  }
+
+  /**
+   * 字段类型（数组、集合为元素类型）在 $defs 中的名称
+   */
+  private static String nameOf(@NotNull FieldModel field) {
+    PsiClass targetClass = field.getTargetClass();
+    return targetClass == null ? ""
+        : BeanModelUtil.instanceName(targetClass, field.getTargetSubstitutor());
+  }
+
+  /**
+   * $defs 中定义的引用，泛型实例化名称中的空格、尖括号等字符按 URI 片段编码
+   */
+  private static String refOf(@NotNull String name) {
+    StringBuilder ref = new StringBuilder(DEFS_PREFIX);
+    for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+      char c = (char) (b & 0xFF);
+      if (c < 0x80 && (Character.isLetterOrDigit(c) || "._$-_".indexOf(c) >= 0)) {
+        ref.append(c);
+      } else {
+        ref.append('%').append(String.format("%02X", b & 0xFF));
+      }
+    }
+    return ref.toString();
+  }
+}
@@ -0,0 +1,53 @@
+package com.wxibm333.util;
+
+import com.intellij.notification.NotificationListener;
+import com.intellij.openapi.project.Project;
+import java.io.IOException;
+import java.io.Writer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 转换结果的输出目标，json 在遍历 PSI 时直接写入
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 14:40
+ */
+public interface JsonSink {
+
+  /**
+   * 打开输出流，后台读操作被写操作打断重启时会再次调用，实现需要丢弃之前写入的内容
+   *
+   * @return java.io.Writer
+   * @author wangXin
+   * @date 2026-10-17 14:40
+   */
+  @NotNull
+  Writer openWriter() throws IOException;
+
+  /**
+   * 输出完成后在 EDT 上调用
+   *
+   * @param project   当前项目
+   * @param className 转换的类名
+   * @return java.lang.String 通知消息
+   * @author wangXin
+   * @date 2026-10-17 14:40
+   */
+  @NotNull
+  String complete(@NotNull Project project, @NotNull String className);
+
+  /**
+   * 通知消息中链接的处理，在 {@link #complete(Project, String)} 之后调用
+   *
+   * @param project 当前项目
+   * @return com.intellij.notification.NotificationListener 消息中没有链接时返回 null
+   * @author wangXin
+   * @date 2026-10-17 17:50
+   */
+  @Nullable
+  default NotificationListener getNotificationListener(@NotNull Project project) {
+    return null;
+  }
+}
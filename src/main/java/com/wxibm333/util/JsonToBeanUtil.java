@@ -0,0 +1,330 @@
+package com.wxibm333.util;
+
+import com.google.gson.stream.JsonReader;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.util.text.StringUtil;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import javax.lang.model.SourceVersion;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 根据 json 示例生成 java bean 源码，是 {@link ConvertToJsonParamUtil} 的逆向转换。
+ * <p>
+ * 使用 {@link JsonReader} 流式读取，数组元素读取一个就与之前的元素合并结构，内存占用只与结构的大小有关，与示例的大小无关。
+ * 嵌套对象生成静态内部类，数组生成 {@code List<T>}，日期时间字符串按 {@link ToolsUtil} 中的格式识别成 java.time 类型。
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 22:00
+ */
+public class JsonToBeanUtil {
+
+  private final static Pattern DATE_TIME = Pattern
+      .compile("\\d{4}-\\d{2}-\\d{2}[ T]\\d{2}:\\d{2}:\\d{2}(\\.\\d+)?");
+  private final static Pattern DATE = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+  private final static Pattern TIME = Pattern.compile("\\d{2}:\\d{2}:\\d{2}(\\.\\d+)?");
+  private final static String INDENT = "  ";
+
+  /**
+   * 读取 json 示例并生成 java 源码，不访问 PSI，可以在任意后台线程中调用
+   *
+   * @param reader      json 示例，根节点为对象或对象数组
+   * @param className   根类名
+   * @param packageName 包名，默认包时为空字符串
+   * @return java.lang.String 使用全限定类型名的源码，需要再整理 import
+   * @author wangXin
+   * @date 2026-10-17 22:00
+   */
+  public static String generateSource(@NotNull Reader reader, @NotNull String className,
+      @NotNull String packageName) throws IOException {
+    Shape shape;
+    try (JsonReader jsonReader = new JsonReader(reader)) {
+      jsonReader.setLenient(true);
+      shape = JsonToBeanUtil.readShape(jsonReader);
+    }
+    // 根节点为数组时按元素生成
+    if (shape.kind == Kind.ARRAY && shape.element != null) {
+      shape = shape.element;
+    }
+    if (shape.kind != Kind.OBJECT) {
+      throw new IllegalArgumentException("JSON sample must be an object or an array of objects");
+    }
+    StringBuilder source = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    Set<String> classNames = new HashSet<>();
+    classNames.add(className);
+    shape.name = className;
+    Deque<Shape> nestedClasses = new ArrayDeque<>();
+    source.append("/**\n * Generated from a JSON sample\n */\n");
+    source.append("public class ").append(className).append(" {\n");
+    JsonToBeanUtil.appendMembers(shape, INDENT, classNames, nestedClasses, source);
+    // 所有嵌套类都生成为根类的静态内部类
+    while (!nestedClasses.isEmpty()) {
+      Shape nested = nestedClasses.poll();
+      source.append('\n').append(INDENT).append("public static class ").append(nested.name)
+          .append(" {\n");
+      JsonToBeanUtil.appendMembers(nested, INDENT + INDENT, classNames, nestedClasses, source);
+      source.append(INDENT).append("}\n");
+    }
+    source.append("}\n");
+    return source.toString();
+  }
+
+  /**
+   * 读取一个值的结构，数组元素逐个合并，不保留元素本身
+   */
+  private static Shape readShape(@NotNull JsonReader reader) throws IOException {
+    ProgressManager.checkCanceled();
+    switch (reader.peek()) {
+      case BEGIN_OBJECT:
+        Shape object = new Shape(Kind.OBJECT);
+        reader.beginObject();
+        while (reader.hasNext()) {
+          String name = reader.nextName();
+          object.fields.merge(name, JsonToBeanUtil.readShape(reader), JsonToBeanUtil::merge);
+        }
+        reader.endObject();
+        return object;
+      case BEGIN_ARRAY:
+        Shape array = new Shape(Kind.ARRAY);
+        reader.beginArray();
+        while (reader.hasNext()) {
+          Shape element = JsonToBeanUtil.readShape(reader);
+          array.element = array.element == null ? element
+              : JsonToBeanUtil.merge(array.element, element);
+        }
+        reader.endArray();
+        return array;
+      case STRING:
+        return new Shape(JsonToBeanUtil.stringKind(reader.nextString()));
+      case NUMBER:
+        return new Shape(JsonToBeanUtil.numberKind(reader.nextString()));
+      case BOOLEAN:
+        reader.nextBoolean();
+        return new Shape(Kind.BOOLEAN);
+      case NULL:
+        reader.nextNull();
+        return new Shape(Kind.NULL);
+      default:
+        throw new IllegalArgumentException("Unexpected token " + reader.peek());
+    }
+  }
+
+  private static Kind stringKind(@NotNull String value) {
+    if (DATE_TIME.matcher(value).matches()) {
+      return Kind.DATE_TIME;
+    } else if (DATE.matcher(value).matches()) {
+      return Kind.DATE;
+    } else if (TIME.matcher(value).matches()) {
+      return Kind.TIME;
+    }
+    return Kind.STRING;
+  }
+
+  private static Kind numberKind(@NotNull String value) {
+    if (value.contains(".") || value.contains("e") || value.contains("E")) {
+      return Kind.DECIMAL;
+    }
+    BigInteger number = new BigInteger(value);
+    if (number.bitLength() < Integer.SIZE) {
+      return Kind.INTEGER;
+    }
+    return number.bitLength() < Long.SIZE ? Kind.LONG : Kind.DECIMAL;
+  }
+
+  /**
+   * 合并两个值的结构，合并后的类型能表示两边的所有值，对象合并字段，数组合并元素
+   */
+  private static Shape merge(@NotNull Shape left, @NotNull Shape right) {
+    if (left.kind == Kind.NULL) {
+      return right;
+    } else if (right.kind == Kind.NULL) {
+      return left;
+    } else if (left.kind == Kind.OBJECT && right.kind == Kind.OBJECT) {
+      right.fields.forEach((name, field) -> left.fields.merge(name, field, JsonToBeanUtil::merge));
+      return left;
+    } else if (left.kind == Kind.ARRAY && right.kind == Kind.ARRAY) {
+      if (left.element == null || right.element == null) {
+        left.element = left.element == null ? right.element : left.element;
+      } else {
+        left.element = JsonToBeanUtil.merge(left.element, right.element);
+      }
+      return left;
+    } else if (left.kind == right.kind) {
+      return left;
+    } else if (left.kind.isNumber() && right.kind.isNumber()) {
+      // 整数合并为能容纳两边的更宽类型
+      return left.kind.ordinal() > right.kind.ordinal() ? left : right;
+    } else if (left.kind.isText() && right.kind.isText()) {
+      // 格式不一致的日期时间字符串退化为字符串
+      return new Shape(Kind.STRING);
+    }
+    return new Shape(Kind.ANY);
+  }
+
+  /**
+   * 写入字段和 getter、setter，字段中的嵌套对象分配类名后加入待生成队列
+   */
+  private static void appendMembers(@NotNull Shape shape, @NotNull String indent,
+      @NotNull Set<String> classNames, @NotNull Deque<Shape> nestedClasses,
+      @NotNull StringBuilder source) {
+    List<String[]> members = new ArrayList<>();
+    Set<String> fieldNames = new HashSet<>();
+    for (Map.Entry<String, Shape> entry : shape.fields.entrySet()) {
+      String key = entry.getKey();
+      String fieldName = JsonToBeanUtil.uniqueName(JsonToBeanUtil.toIdentifier(key), fieldNames);
+      String type = JsonToBeanUtil
+          .typeText(entry.getValue(), key, classNames, nestedClasses);
+      members.add(new String[]{key, fieldName, type});
+    }
+    for (String[] member : members) {
+      source.append('\n');
+      if (!member[0].equals(member[1])) {
+        source.append(indent).append("/**\n").append(indent).append(" * json: ")
+            .append(member[0].replace("*/", "*&#47;")).append('\n').append(indent)
+            .append(" */\n");
+      }
+      source.append(indent).append("private ").append(member[2]).append(' ').append(member[1])
+          .append(";\n");
+    }
+    for (String[] member : members) {
+      String accessor = StringUtil.capitalize(member[1]);
+      source.append('\n').append(indent).append("public ").append(member[2]).append(" get")
+          .append(accessor).append("() {\n").append(indent).append(INDENT).append("return ")
+          .append(member[1]).append(";\n").append(indent).append("}\n");
+      source.append('\n').append(indent).append("public void set").append(accessor).append('(')
+          .append(member[2]).append(' ').append(member[1]).append(") {\n").append(indent)
+          .append(INDENT).append("this.").append(member[1]).append(" = ").append(member[1])
+          .append(";\n").append(indent).append("}\n");
+    }
+  }
+
+  private static String typeText(@Nullable Shape shape, @NotNull String key,
+      @NotNull Set<String> classNames, @NotNull Deque<Shape> nestedClasses) {
+    if (shape == null) {
+      return "java.lang.Object";
+    }
+    switch (shape.kind) {
+      case BOOLEAN:
+        return "java.lang.Boolean";
+      case INTEGER:
+        return "java.lang.Integer";
+      case LONG:
+        return "java.lang.Long";
+      case DECIMAL:
+        return "java.math.BigDecimal";
+      case STRING:
+        return "java.lang.String";
+      case DATE_TIME:
+        return "java.time.LocalDateTime";
+      case DATE:
+        return "java.time.LocalDate";
+      case TIME:
+        return "java.time.LocalTime";
+      case OBJECT:
+        if (shape.fields.isEmpty()) {
+          return "java.util.Map<java.lang.String, java.lang.Object>";
+        }
+        if (shape.name == null) {
+          String className = StringUtil.capitalize(JsonToBeanUtil.toIdentifier(key));
+          shape.name = JsonToBeanUtil.uniqueName(className, classNames);
+          nestedClasses.add(shape);
+        }
+        return shape.name;
+      case ARRAY:
+        return "java.util.List<" + JsonToBeanUtil
+            .typeText(shape.element, JsonToBeanUtil.singular(key), classNames, nestedClasses)
+            + ">";
+      default:
+        return "java.lang.Object";
+    }
+  }
+
+  /**
+   * 把 json 的 key 转换成驼峰形式的 java 标识符，例如 user_name、user-name 转换为 userName
+   */
+  private static String toIdentifier(@NotNull String key) {
+    StringBuilder identifier = new StringBuilder();
+    for (String part : key.split("[^A-Za-z0-9_$]+|_+")) {
+      if (part.isEmpty()) {
+        continue;
+      }
+      identifier.append(identifier.length() == 0 ? StringUtil.decapitalize(part)
+          : StringUtil.capitalize(part));
+    }
+    if (identifier.length() == 0) {
+      return "field";
+    } else if (Character.isDigit(identifier.charAt(0))) {
+      identifier.insert(0, "field");
+    }
+    String name = identifier.toString();
+    return SourceVersion.isKeyword(name) ? name + "_" : name;
+  }
+
+  /**
+   * 数组元素的类名，例如 items 生成 Item，categories 生成 Category
+   */
+  private static String singular(@NotNull String key) {
+    if (key.endsWith("ies") && key.length() > 3) {
+      return key.substring(0, key.length() - 3) + "y";
+    } else if (key.endsWith("s") && !key.endsWith("ss") && key.length() > 1) {
+      return key.substring(0, key.length() - 1);
+    }
+    return key + "Item";
+  }
+
+  private static String uniqueName(@NotNull String name, @NotNull Set<String> used) {
+    String unique = name;
+    for (int i = 2; !used.add(unique); i++) {
+      unique = name + i;
+    }
+    return unique;
+  }
+
+  private enum Kind {
+    /**
+     * 数值类型按从窄到宽排列，合并时取更宽的类型
+     */
+    INTEGER, LONG, DECIMAL, STRING, DATE_TIME, DATE, TIME, BOOLEAN, NULL, OBJECT, ARRAY, ANY;
+
+    private boolean isNumber() {
+      return this == INTEGER || this == LONG || this == DECIMAL;
+    }
+
+    private boolean isText() {
+      return this == STRING || this == DATE_TIME || this == DATE || this == TIME;
+    }
+  }
+
+  /**
+   * 值的结构，对象保留合并后的字段，数组保留合并后的元素结构
+   */
+  private static class Shape {
+
+    private final Kind kind;
+    private final Map<String, Shape> fields = new LinkedHashMap<>();
+    private Shape element;
+    /**
+     * 对象生成的类名
+     */
+    private String name;
+
+    private Shape(@NotNull Kind kind) {
+      this.kind = kind;
+    }
+  }
+}
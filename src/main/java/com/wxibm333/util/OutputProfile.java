@@ -0,0 +1,83 @@
+package com.wxibm333.util;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 示例 json 的输出配置：是否格式化、集合示例元素个数、是否省略空分支以及输出大小上限。
+ * <p>
+ * 超出大小上限后停止展开，未展开的对象输出 {@code {"$truncated": "类名"}}，未写出的字段以
+ * {@code "$truncated": "类名"} 结尾，输出仍然是合法的 json。
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 23:30
+ */
+public class OutputProfile {
+
+  /**
+   * 格式化输出，集合输出一个示例元素，不省略空分支，不限制大小
+   */
+  public final static OutputProfile DEFAULT = new OutputProfile(true, 1, false, 0);
+
+  private final boolean pretty;
+  private final int sampleElements;
+  private final boolean omitEmpty;
+  private final long maxBytes;
+
+  public OutputProfile(boolean pretty, int sampleElements, boolean omitEmpty, long maxBytes) {
+    this.pretty = pretty;
+    this.sampleElements = Math.max(1, sampleElements);
+    this.omitEmpty = omitEmpty;
+    this.maxBytes = Math.max(0, maxBytes);
+  }
+
+  /**
+   * 读取 {@link ConvertToJsonParamSettings} 中的输出配置
+   *
+   * @return com.wxibm333.util.OutputProfile
+   * @author wangXin
+   * @date 2026-10-17 23:30
+   */
+  public static OutputProfile fromSettings() {
+    ConvertToJsonParamSettings settings = ConvertToJsonParamSettings.getInstance();
+    return new OutputProfile(!settings.minifiedOutput, settings.sampleElements,
+        settings.omitEmptyBranches, settings.maxOutputKb * 1024L);
+  }
+
+  public boolean isPretty() {
+    return pretty;
+  }
+
+  /**
+   * 数组、集合中输出的示例元素个数，至少为 1
+   */
+  public int getSampleElements() {
+    return sampleElements;
+  }
+
+  /**
+   * 是否省略 Map、空数组、空对象等没有示例值的分支
+   */
+  public boolean isOmitEmpty() {
+    return omitEmpty;
+  }
+
+  /**
+   * 输出的字节数上限，0 表示不限制
+   */
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  /**
+   * 片段内容与示例元素个数有关，不同个数生成的片段分别缓存
+   *
+   * @param variant 片段类型，例如示例值、注释
+   * @return java.lang.String 只输出一个示例元素时原样返回
+   * @author wangXin
+   * @date 2026-10-17 23:30
+   */
+  public String qualify(@NotNull String variant) {
+    return sampleElements == 1 ? variant : variant + '@' + sampleElements;
+  }
+}
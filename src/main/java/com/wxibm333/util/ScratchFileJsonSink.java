@@ -0,0 +1,54 @@
+package com.wxibm333.util;
+
+import com.intellij.ide.scratch.ScratchFileService;
+import com.intellij.ide.scratch.ScratchRootType;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 输出到 IDE scratch 文件，写完后在编辑器中打开
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 14:40
+ */
+public class ScratchFileJsonSink implements JsonSink {
+
+  private final Path path;
+
+  public ScratchFileJsonSink(@NotNull String fileName) {
+    String rootPath = ScratchFileService.getInstance().getRootPath(ScratchRootType.getInstance());
+    this.path = Paths.get(rootPath, fileName);
+  }
+
+  public Path getPath() {
+    return path;
+  }
+
+  @NotNull
+  @Override
+  public Writer openWriter() throws IOException {
+    Files.createDirectories(path.getParent());
+    return Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+  }
+
+  @NotNull
+  @Override
+  public String complete(@NotNull Project project, @NotNull String className) {
+    VirtualFile file = LocalFileSystem.getInstance().refreshAndFindFileByIoFile(path.toFile());
+    if (file != null) {
+      FileEditorManager.getInstance(project).openFile(file, true);
+    }
+    return String.format("Convert %s to JSON success, written to scratch file %s.", className,
+        path.getFileName());
+  }
+}
@@ -0,0 +1,558 @@
+package com.wxibm333.util;
+
+import com.google.gson.stream.JsonWriter;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiSubstitutor;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 批量生成随机示例数据，每条记录一行 json（JSON Lines）。
+ * <p>
+ * 类模型只在读操作中编译一次，得到与 PSI 无关的生成计划，之后按记录分块在多个线程中生成，不再访问 PSI。
+ * 每条记录的随机数由种子和记录序号派生，结果与线程数无关，相同的种子总是生成相同的文件。
+ * 分块按顺序写入文件，同时生成中的分块数量有上限，内存占用与记录总数无关。
+ * <p>
+ * 数值、字符串长度和集合大小遵循 Size、Min、Max、DecimalMin、DecimalMax、Positive、Negative、NotEmpty、
+ * NotBlank、Email、AssertTrue、AssertFalse 注解，Pattern 无法反推示例值，忽略。
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 20:30
+ */
+public class SyntheticDataGenerator {
+
+  private final static int CHUNK_SIZE = 1000;
+  private final static long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+  private final static long MIN_EPOCH_DAY = LocalDate.of(2000, 1, 1).toEpochDay();
+  private final static long MAX_EPOCH_DAY = LocalDate.of(2030, 12, 31).toEpochDay();
+  private final static char[] ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+  private final static DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter
+      .ofPattern("yyyy-MM-dd HH:mm:ss");
+  private final static DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+  private final static DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+  private final ClassPlan root;
+  private final int maxDepth;
+
+  private SyntheticDataGenerator(@NotNull ClassPlan root, int maxDepth) {
+    this.root = root;
+    this.maxDepth = maxDepth;
+  }
+
+  /**
+   * 编译类的生成计划，需要在读操作中调用
+   *
+   * @param psiClass 根类
+   * @return com.wxibm333.util.SyntheticDataGenerator
+   * @author wangXin
+   * @date 2026-10-17 20:30
+   */
+  public static SyntheticDataGenerator compile(@NotNull PsiClass psiClass) {
+    int maxDepth = ConvertToJsonParamSettings.getInstance().maxDepth;
+    ClassPlan root = SyntheticDataGenerator
+        .compileClass(psiClass, PsiSubstitutor.EMPTY, 0, maxDepth, new HashMap<>());
+    return new SyntheticDataGenerator(root, maxDepth);
+  }
+
+  /**
+   * 泛型类按实例化分别编译，key 为 {@link BeanModelUtil#instanceName(PsiClass, PsiSubstitutor)}。
+   * 类型参数不断嵌套的泛型类（例如 Node<List<T>>）实例化无穷多，超过最大深度后不再编译，生成空对象
+   */
+  private static ClassPlan compileClass(@NotNull PsiClass psiClass,
+      @NotNull PsiSubstitutor substitutor, int depth, int maxDepth,
+      @NotNull Map<String, ClassPlan> compiled) {
+    String instanceName = BeanModelUtil.instanceName(psiClass, substitutor);
+    ClassPlan plan = compiled.get(instanceName);
+    if (plan != null) {
+      return plan;
+    } else if (depth >= maxDepth) {
+      return new ClassPlan();
+    }
+    // 先登记再填充字段，自引用的类得到同一个计划，生成时按路径终止
+    plan = new ClassPlan();
+    compiled.put(instanceName, plan);
+    for (FieldModel field : BeanModelUtil.getBeanModel(psiClass, substitutor, false, null)
+        .getFields()) {
+      ProgressManager.checkCanceled();
+      FieldPlan fieldPlan = SyntheticDataGenerator
+          .compileField(field, depth + 1, maxDepth, compiled);
+      if (fieldPlan != null) {
+        plan.fields.add(fieldPlan);
+      }
+    }
+    return plan;
+  }
+
+  @Nullable
+  private static FieldPlan compileField(@NotNull FieldModel field, int depth, int maxDepth,
+      @NotNull Map<String, ClassPlan> compiled) {
+    boolean array = field.getKind() == TypeKind.ARRAY || field.getKind() == TypeKind.COLLECTION;
+    String typeText = StringUtil.getShortName(array
+        ? JsonSchemaUtil.elementTypeText(field.getTypeText()) : field.getTypeText());
+    PsiClass targetClass = field.getTargetClass();
+    ValuePlan value;
+    switch (field.getElementKind()) {
+      case NORMAL:
+        value = new ValuePlan(SyntheticDataGenerator.scalarKind(typeText,
+            field.getDefaultValue()));
+        value.typeText = typeText;
+        break;
+      case ENUM:
+        if (targetClass == null) {
+          return null;
+        }
+        value = new ValuePlan(ValueKind.ENUM);
+        value.constants = new ArrayList<>(
+            BeanModelUtil.getBeanModel(targetClass, false).getEnumConstants().keySet());
+        if (value.constants.isEmpty()) {
+          return null;
+        }
+        break;
+      case BEAN:
+        if (targetClass == null) {
+          return null;
+        }
+        value = new ValuePlan(ValueKind.BEAN);
+        value.bean = SyntheticDataGenerator.compileClass(targetClass,
+            field.getTargetSubstitutor(), depth, maxDepth, compiled);
+        break;
+      case MAP:
+        value = new ValuePlan(ValueKind.MAP);
+        break;
+      default:
+        return null;
+    }
+    FieldPlan plan = new FieldPlan(field.getName(), array, value);
+    for (ValidationModel validation : field.getValidations()) {
+      SyntheticDataGenerator.applyValidation(validation, plan);
+    }
+    plan.finish();
+    return plan;
+  }
+
+  private static ValueKind scalarKind(@NotNull String typeText, @Nullable Object defaultValue) {
+    switch (typeText) {
+      case "Date":
+      case "LocalDateTime":
+        return ValueKind.DATE_TIME;
+      case "LocalDate":
+        return ValueKind.DATE;
+      case "LocalTime":
+        return ValueKind.TIME;
+      default:
+        break;
+    }
+    if (defaultValue instanceof Boolean) {
+      return ValueKind.BOOLEAN;
+    } else if (defaultValue instanceof Character) {
+      return ValueKind.CHAR;
+    } else if (defaultValue instanceof Float || defaultValue instanceof Double) {
+      return ValueKind.DECIMAL;
+    } else if (defaultValue instanceof Number) {
+      return ValueKind.INTEGER;
+    }
+    return ValueKind.STRING;
+  }
+
+  /**
+   * 把验证注解转换成取值范围，无法识别的注解和无法解析的参数值忽略
+   */
+  private static void applyValidation(@NotNull ValidationModel validation,
+      @NotNull FieldPlan plan) {
+    Map<String, String> attributes = validation.getAttributes();
+    ValuePlan value = plan.value;
+    boolean exclusive = "false".equals(attributes.get("inclusive"));
+    switch (StringUtil.getShortName(validation.getQualifiedName())) {
+      case "NotBlank":
+      case "NotEmpty":
+        if (plan.array) {
+          plan.minItems = Math.max(plan.minItems == null ? 0 : plan.minItems, 1);
+        } else {
+          value.minLength = Math.max(value.minLength == null ? 0 : value.minLength, 1);
+        }
+        break;
+      case "Size":
+        BigDecimal min = JsonSchemaUtil.parseNumber(attributes.get("min"));
+        BigDecimal max = JsonSchemaUtil.parseNumber(attributes.get("max"));
+        if (plan.array) {
+          plan.minItems = min == null ? plan.minItems : min.intValue();
+          plan.maxItems = max == null ? plan.maxItems : max.intValue();
+        } else {
+          value.minLength = min == null ? value.minLength : min.intValue();
+          value.maxLength = max == null ? value.maxLength : max.intValue();
+        }
+        break;
+      case "Min":
+      case "DecimalMin":
+        value.setMin(JsonSchemaUtil.parseNumber(attributes.get("value")), exclusive);
+        break;
+      case "Max":
+      case "DecimalMax":
+        value.setMax(JsonSchemaUtil.parseNumber(attributes.get("value")), exclusive);
+        break;
+      case "Positive":
+        value.setMin(BigDecimal.ZERO, true);
+        break;
+      case "PositiveOrZero":
+        value.setMin(BigDecimal.ZERO, false);
+        break;
+      case "Negative":
+        value.setMax(BigDecimal.ZERO, true);
+        break;
+      case "NegativeOrZero":
+        value.setMax(BigDecimal.ZERO, false);
+        break;
+      case "Email":
+        if (value.kind == ValueKind.STRING) {
+          value.kind = ValueKind.EMAIL;
+        }
+        break;
+      case "AssertTrue":
+        value.constant = true;
+        break;
+      case "AssertFalse":
+        value.constant = false;
+        break;
+      default:
+        break;
+    }
+  }
+
+  /**
+   * 生成记录写入文件，在后台线程中调用，不需要读操作
+   *
+   * @param count     记录数量
+   * @param seed      随机数种子
+   * @param file      输出文件，已存在时覆盖
+   * @param indicator 进度
+   * @author wangXin
+   * @date 2026-10-17 20:30
+   */
+  public void generate(long count, long seed, @NotNull Path file,
+      @NotNull ProgressIndicator indicator) throws IOException {
+    int parallelism = Runtime.getRuntime().availableProcessors();
+    ExecutorService executor = AppExecutorUtil
+        .createBoundedApplicationPoolExecutor("ConvertToJsonParam Generator", parallelism);
+    // 按顺序等待写入的分块，数量上限决定了内存占用
+    Deque<Future<String>> pending = new ArrayDeque<>();
+    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      long next = 0;
+      long written = 0;
+      while (written < count) {
+        while (next < count && pending.size() < parallelism * 2) {
+          long start = next;
+          long end = Math.min(count, start + CHUNK_SIZE);
+          pending.add(executor.submit(() -> this.generateChunk(start, end, seed, indicator)));
+          next = end;
+        }
+        writer.write(SyntheticDataGenerator.await(pending.poll(), indicator));
+        written = Math.min(count, written + CHUNK_SIZE);
+        indicator.setFraction((double) written / count);
+      }
+    } finally {
+      pending.forEach(future -> future.cancel(true));
+      executor.shutdownNow();
+    }
+  }
+
+  private static String await(@NotNull Future<String> future,
+      @NotNull ProgressIndicator indicator) throws IOException {
+    while (true) {
+      indicator.checkCanceled();
+      try {
+        return future.get(50, TimeUnit.MILLISECONDS);
+      } catch (TimeoutException e) {
+        // 继续等待，期间检查是否取消
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ProcessCanceledException(e);
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof UncheckedIOException) {
+          throw ((UncheckedIOException) cause).getCause();
+        } else if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        throw new IllegalStateException(cause);
+      }
+    }
+  }
+
+  private String generateChunk(long start, long end, long seed,
+      @NotNull ProgressIndicator indicator) {
+    StringWriter chunk = new StringWriter();
+    List<ClassPlan> path = new ArrayList<>();
+    try {
+      for (long index = start; index < end; index++) {
+        indicator.checkCanceled();
+        SplittableRandom random = new SplittableRandom(
+            SyntheticDataGenerator.mix64(seed + index * GOLDEN_GAMMA));
+        JsonWriter writer = new JsonWriter(chunk);
+        this.writeObject(root, random, path, writer);
+        writer.flush();
+        chunk.write('\n');
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return chunk.toString();
+  }
+
+  /**
+   * 由种子和记录序号派生每条记录的随机数种子，相邻记录的随机数序列互不相关
+   */
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  private void writeObject(@NotNull ClassPlan plan, @NotNull SplittableRandom random,
+      @NotNull List<ClassPlan> path, @NotNull JsonWriter writer) throws IOException {
+    path.add(plan);
+    writer.beginObject();
+    for (FieldPlan field : plan.fields) {
+      ClassPlan bean = field.value.bean;
+      // 循环引用和超过最大深度的实体字段省略
+      if (bean != null && (path.size() >= maxDepth || path.contains(bean))) {
+        continue;
+      }
+      writer.name(field.name);
+      if (field.array) {
+        writer.beginArray();
+        int size = SyntheticDataGenerator.between(random, field.minItems, field.maxItems);
+        for (int i = 0; i < size; i++) {
+          this.writeValue(field.value, random, path, writer);
+        }
+        writer.endArray();
+      } else {
+        this.writeValue(field.value, random, path, writer);
+      }
+    }
+    writer.endObject();
+    path.remove(path.size() - 1);
+  }
+
+  private void writeValue(@NotNull ValuePlan value, @NotNull SplittableRandom random,
+      @NotNull List<ClassPlan> path, @NotNull JsonWriter writer) throws IOException {
+    switch (value.kind) {
+      case BOOLEAN:
+        writer.value(value.constant != null ? value.constant : random.nextBoolean());
+        break;
+      case INTEGER:
+        long minValue = value.minValue.longValue();
+        long maxValue = value.maxValue.longValue();
+        if (minValue == maxValue) {
+          writer.value(minValue);
+        } else if (maxValue == Long.MAX_VALUE) {
+          writer.value(random.nextLong(minValue - 1, maxValue) + 1);
+        } else {
+          writer.value(random.nextLong(minValue, maxValue + 1));
+        }
+        break;
+      case DECIMAL:
+        double decimal = value.minValue.doubleValue()
+            + random.nextDouble() * (value.maxValue.doubleValue() - value.minValue.doubleValue());
+        writer.value(BigDecimal.valueOf(decimal).setScale(2, RoundingMode.HALF_UP));
+        break;
+      case CHAR:
+        writer.value(String.valueOf(ALPHABET[random.nextInt(26)]));
+        break;
+      case STRING:
+        writer.value(SyntheticDataGenerator.randomText(random,
+            SyntheticDataGenerator.between(random, value.minLength, value.maxLength)));
+        break;
+      case EMAIL:
+        writer.value(SyntheticDataGenerator.randomText(random, 8) + "@example.com");
+        break;
+      case DATE_TIME:
+        writer.value(DATE_TIME_FORMATTER.format(LocalDateTime.of(
+            LocalDate.ofEpochDay(random.nextLong(MIN_EPOCH_DAY, MAX_EPOCH_DAY + 1)),
+            LocalTime.ofSecondOfDay(random.nextInt(86400)))));
+        break;
+      case DATE:
+        writer.value(DATE_FORMATTER.format(
+            LocalDate.ofEpochDay(random.nextLong(MIN_EPOCH_DAY, MAX_EPOCH_DAY + 1))));
+        break;
+      case TIME:
+        writer.value(TIME_FORMATTER.format(LocalTime.ofSecondOfDay(random.nextInt(86400))));
+        break;
+      case ENUM:
+        writer.value(value.constants.get(random.nextInt(value.constants.size())));
+        break;
+      case BEAN:
+        this.writeObject(value.bean, random, path, writer);
+        break;
+      case MAP:
+        // Map 的键值无法确定，输出空对象
+        writer.beginObject().endObject();
+        break;
+      default:
+        writer.nullValue();
+        break;
+    }
+  }
+
+  private static int between(@NotNull SplittableRandom random, int min, int max) {
+    return min + random.nextInt(max - min + 1);
+  }
+
+  private static String randomText(@NotNull SplittableRandom random, int length) {
+    char[] text = new char[length];
+    for (int i = 0; i < length; i++) {
+      text[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+    }
+    return new String(text);
+  }
+
+  private enum ValueKind {
+    BOOLEAN, INTEGER, DECIMAL, CHAR, STRING, EMAIL, DATE_TIME, DATE, TIME, ENUM, BEAN, MAP
+  }
+
+  /**
+   * 类的生成计划，编译完成后只读，可以在多个线程中共享
+   */
+  private static class ClassPlan {
+
+    private final List<FieldPlan> fields = new ArrayList<>();
+  }
+
+  /**
+   * 字段的生成计划，数组、集合字段的 value 为元素的生成计划
+   */
+  private static class FieldPlan {
+
+    private final String name;
+    private final boolean array;
+    private final ValuePlan value;
+    private Integer minItems;
+    private Integer maxItems;
+
+    private FieldPlan(@NotNull String name, boolean array, @NotNull ValuePlan value) {
+      this.name = name;
+      this.array = array;
+      this.value = value;
+    }
+
+    /**
+     * 根据注解给出的部分边界补全取值范围，过大的上限收窄，避免生成的文件过大
+     */
+    private void finish() {
+      int itemsFrom = minItems != null ? minItems : Math.min(1, maxItems != null ? maxItems : 1);
+      int itemsTo = maxItems != null ? maxItems : Math.max(itemsFrom, 3);
+      minItems = Math.max(0, itemsFrom);
+      maxItems = Math.max(minItems, Math.min(itemsTo, Math.max(minItems, 8)));
+      value.finish();
+    }
+  }
+
+  /**
+   * 单个值的生成计划
+   */
+  private static class ValuePlan {
+
+    private ValueKind kind;
+    private String typeText = "";
+    private BigDecimal minValue;
+    private BigDecimal maxValue;
+    private Integer minLength;
+    private Integer maxLength;
+    private Boolean constant;
+    private List<String> constants = Collections.emptyList();
+    private ClassPlan bean;
+
+    private ValuePlan(@NotNull ValueKind kind) {
+      this.kind = kind;
+    }
+
+    private void setMin(@Nullable BigDecimal min, boolean exclusive) {
+      if (min != null) {
+        minValue = exclusive ? min.add(this.step()) : min;
+      }
+    }
+
+    private void setMax(@Nullable BigDecimal max, boolean exclusive) {
+      if (max != null) {
+        maxValue = exclusive ? max.subtract(this.step()) : max;
+      }
+    }
+
+    private BigDecimal step() {
+      return kind == ValueKind.INTEGER ? BigDecimal.ONE : new BigDecimal("0.01");
+    }
+
+    private void finish() {
+      BigDecimal width = BigDecimal.valueOf(1000);
+      if (minValue == null) {
+        minValue = maxValue != null && maxValue.signum() < 0 ? maxValue.subtract(width)
+            : BigDecimal.ZERO;
+      }
+      if (maxValue == null || maxValue.compareTo(minValue) < 0) {
+        maxValue = minValue.add(width);
+      }
+      if (kind == ValueKind.INTEGER) {
+        // 不超过字段类型的取值范围
+        BigDecimal[] bounds = ValuePlan.integerBounds(typeText);
+        minValue = minValue.max(bounds[0]).min(bounds[1]);
+        maxValue = maxValue.max(minValue).min(bounds[1]);
+      }
+      int lengthFrom = minLength != null ? minLength
+          : Math.min(5, maxLength != null ? maxLength : 5);
+      int lengthTo = maxLength != null ? maxLength : Math.max(lengthFrom, 12);
+      minLength = Math.max(0, lengthFrom);
+      maxLength = Math.max(minLength, Math.min(lengthTo, Math.max(minLength, 64)));
+    }
+
+    private static BigDecimal[] integerBounds(@NotNull String typeText) {
+      switch (typeText) {
+        case "byte":
+        case "Byte":
+          return new BigDecimal[]{BigDecimal.valueOf(Byte.MIN_VALUE),
+              BigDecimal.valueOf(Byte.MAX_VALUE)};
+        case "short":
+        case "Short":
+          return new BigDecimal[]{BigDecimal.valueOf(Short.MIN_VALUE),
+              BigDecimal.valueOf(Short.MAX_VALUE)};
+        case "int":
+        case "Integer":
+          return new BigDecimal[]{BigDecimal.valueOf(Integer.MIN_VALUE),
+              BigDecimal.valueOf(Integer.MAX_VALUE)};
+        default:
+          return new BigDecimal[]{BigDecimal.valueOf(Long.MIN_VALUE),
+              BigDecimal.valueOf(Long.MAX_VALUE)};
+      }
+    }
+  }
+}
@@ -1,12 +1,12 @@
 package com.wxibm333.util;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
-import com.intellij.psi.CommonClassNames;
+import com.google.gson.stream.JsonWriter;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiPrimitiveType;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.util.PsiTypesUtil;
+import com.intellij.psi.util.PsiUtil;
+import java.io.IOException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
@@ -55,101 +55,49 @@ public class ToolsUtil {
   }
 
   public static boolean isNormalType(PsiType psiType) {
-    return NORMAL_TYPES.containsKey(psiType.getCanonicalText());
-  }
-
-  private static void putDefaultValueToJsonObject(Object defaultValue, String key,
-      JsonObject jsonObject) {
-    if (defaultValue instanceof Number) {
-      jsonObject.addProperty(key, (Number) defaultValue);
-    } else if (defaultValue instanceof Character) {
-      jsonObject.addProperty(key, (Character) defaultValue);
-    } else if (defaultValue instanceof Boolean) {
-      jsonObject.addProperty(key, (Boolean) defaultValue);
-    } else if (defaultValue instanceof String) {
-      jsonObject.addProperty(key,
-          StringUtils.isNotBlank((String) defaultValue) ? (String) defaultValue : "demoData");
-    }
-  }
-
-  public static void putDefaultValueForPrimitiveOrNormalType(PsiType type, String key,
-      JsonObject jsonObject) {
-    Object defaultValue = null;
-    if (type instanceof PsiPrimitiveType) {
-      defaultValue = PsiTypesUtil.getDefaultValue(type);
-    } else if (ToolsUtil.isNormalType(type)) {
-      defaultValue = NORMAL_TYPES.get(type.getCanonicalText());
-    }
-    ToolsUtil.putDefaultValueToJsonObject(defaultValue, key, jsonObject);
-  }
-
-  private static JsonArray putDefaultValueToJsonArray(Object defaultValue) {
-    JsonArray jsonArray = new JsonArray();
-    if (defaultValue instanceof Number) {
-      jsonArray.add((Number) defaultValue);
-    } else if (defaultValue instanceof Character) {
-      jsonArray.add((Character) defaultValue);
-    } else if (defaultValue instanceof Boolean) {
-      jsonArray.add((Boolean) defaultValue);
-    } else if (defaultValue instanceof String) {
-      jsonArray
-          .add(StringUtils.isNotBlank((String) defaultValue) ? (String) defaultValue : "demoData");
-    }
-    return jsonArray;
-  }
-
-  public static JsonArray getDefaultValueForPrimitiveOrNormalType(PsiType type) {
-    if (type == null) {
-      return new JsonArray();
-    }
-    Object defaultValue = null;
-    String canonicalText = type.getCanonicalText();
-    if (type instanceof PsiPrimitiveType) {
-      defaultValue = PsiTypesUtil.getDefaultValue(type);
-    } else if (ToolsUtil.isNormalType(type)) {
-      defaultValue = NORMAL_TYPES.get(canonicalText);
-    }
-    return ToolsUtil.putDefaultValueToJsonArray(defaultValue);
-  }
-
-  public static JsonArray getDefaultValueForPrimitiveOrNormalType(PsiClass psiClass) {
-    if (ToolsUtil.isNormalType(psiClass)) {
-      return ToolsUtil.putDefaultValueToJsonArray(NORMAL_TYPES.get(psiClass.getQualifiedName()));
-    }
-    return new JsonArray();
+    return TypeClassifier.classify(psiType) == TypeKind.NORMAL;
   }
 
   /**
-   * 判断字段类型是否是原始数据类型以及封装类型
+   * 获取原始数据类型以及封装类型的默认值
    *
    * @param type 字段类型
-   * @return boolean
+   * @return java.lang.Object 非原始数据类型以及封装类型时返回 null
    * @author wangXin
-   * @date 2020-05-12 13:43
+   * @date 2026-10-17 13:45
    */
-  public static boolean isPrimitiveOrNormalType(PsiType type) {
-    // 如果是数组，fieldTypeName = type[]
-    return type instanceof PsiPrimitiveType || ToolsUtil.isNormalType(type);
+  public static Object getDefaultValue(PsiType type) {
+    if (type instanceof PsiPrimitiveType) {
+      return PsiTypesUtil.getDefaultValue(type);
+    } else if (ToolsUtil.isNormalType(type)) {
+      return ToolsUtil.getDefaultValue(PsiUtil.resolveClassInType(type));
+    }
+    return null;
+  }
+
+  public static Object getDefaultValue(PsiClass psiClass) {
+    return NORMAL_TYPES.get(psiClass.getQualifiedName());
   }
 
   /**
-   * 判断对象是否是集合类
+   * 把默认值写入 writer，空字符串替换为 demoData
    *
-   * @param psiClass class对象
-   * @return boolean
+   * @param defaultValue 默认值
+   * @param writer       输出目标
    * @author wangXin
-   * @date 2020-05-13 13:35
+   * @date 2026-10-17 14:50
    */
-  public static boolean isCollectionType(PsiClass psiClass) {
-    PsiClass[] classSupers = psiClass.getSupers();
-    for (PsiClass superClass : classSupers) {
-      String qualifiedName = superClass.getQualifiedName();
-      boolean isCollection = CommonClassNames.JAVA_LANG_ITERABLE.equals(qualifiedName)
-          || CommonClassNames.JAVA_UTIL_COLLECTION.equals(qualifiedName);
-      if (isCollection) {
-        return true;
-      }
+  public static void writeDefaultValue(Object defaultValue, JsonWriter writer)
+      throws IOException {
+    if (defaultValue instanceof Number) {
+      writer.value((Number) defaultValue);
+    } else if (defaultValue instanceof Character) {
+      writer.value(String.valueOf(defaultValue));
+    } else if (defaultValue instanceof Boolean) {
+      writer.value((Boolean) defaultValue);
+    } else if (defaultValue instanceof String) {
+      writer.value(
+          StringUtils.isNotBlank((String) defaultValue) ? (String) defaultValue : "demoData");
     }
-    return false;
   }
 }
@@ -0,0 +1,81 @@
+package com.wxibm333.util;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.CommonClassNames;
+import com.intellij.psi.PsiArrayType;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiPrimitiveType;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider.Result;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 类型分类器。每个类只分类一次，结果缓存在项目的 CachedValuesManager 中并随 java 结构修改失效，
+ * 集合、Map 按完整继承链判断，例如 {@code ArrayList -> AbstractList -> Collection}
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 17:10
+ */
+public class TypeClassifier {
+
+  private final static Key<CachedValue<TypeKind>> TYPE_KIND_KEY = Key
+      .create("ConvertToJsonParam.TypeKind");
+
+  /**
+   * 对字段类型分类
+   *
+   * @param type 字段类型
+   * @return com.wxibm333.util.TypeKind 无法解析时返回 UNKNOWN
+   * @author wangXin
+   * @date 2026-10-17 17:10
+   */
+  public static TypeKind classify(@Nullable PsiType type) {
+    if (type instanceof PsiPrimitiveType) {
+      return TypeKind.PRIMITIVE;
+    }
+    if (type instanceof PsiArrayType) {
+      return TypeKind.ARRAY;
+    }
+    return TypeClassifier.classify(PsiUtil.resolveClassInType(type));
+  }
+
+  /**
+   * 对类分类
+   *
+   * @param psiClass class对象
+   * @return com.wxibm333.util.TypeKind 为 null 时返回 UNKNOWN
+   * @author wangXin
+   * @date 2026-10-17 17:10
+   */
+  public static TypeKind classify(@Nullable PsiClass psiClass) {
+    if (psiClass == null) {
+      return TypeKind.UNKNOWN;
+    }
+    return CachedValuesManager.getManager(psiClass.getProject()).getCachedValue(psiClass,
+        TYPE_KIND_KEY, () -> Result.create(TypeClassifier.doClassify(psiClass),
+            PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT), false);
+  }
+
+  private static TypeKind doClassify(@NotNull PsiClass psiClass) {
+    if (ToolsUtil.isNormalType(psiClass)) {
+      return TypeKind.NORMAL;
+    }
+    if (psiClass.isEnum()) {
+      return TypeKind.ENUM;
+    }
+    if (InheritanceUtil.isInheritor(psiClass, CommonClassNames.JAVA_UTIL_MAP)) {
+      return TypeKind.MAP;
+    }
+    if (InheritanceUtil.isInheritor(psiClass, CommonClassNames.JAVA_LANG_ITERABLE)) {
+      return TypeKind.COLLECTION;
+    }
+    return TypeKind.BEAN;
+  }
+}
@@ -0,0 +1,43 @@
+package com.wxibm333.util;
+
+/**
+ * 字段类型分类
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 13:30
+ */
+public enum TypeKind {
+  /**
+   * 原始数据类型，只由 {@link TypeClassifier} 返回，字段模型中归入 {@link #NORMAL}
+   */
+  PRIMITIVE,
+  /**
+   * 原始数据类型、封装类型以及日期等常用类型，直接输出默认值
+   */
+  NORMAL,
+  /**
+   * 枚举
+   */
+  ENUM,
+  /**
+   * 数组
+   */
+  ARRAY,
+  /**
+   * 集合
+   */
+  COLLECTION,
+  /**
+   * Map 及其实现类，输出空对象
+   */
+  MAP,
+  /**
+   * 普通实体类
+   */
+  BEAN,
+  /**
+   * 无法解析的类型
+   */
+  UNKNOWN
+}
@@ -0,0 +1,47 @@
+package com.wxibm333.util;
+
+import java.util.Collections;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 字段上的验证注解信息
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 13:30
+ */
+public class ValidationModel {
+
+  private final String qualifiedName;
+  private final String text;
+  private final Map<String, String> attributes;
+
+  public ValidationModel(@NotNull String qualifiedName, @NotNull String text,
+      @NotNull Map<String, String> attributes) {
+    this.qualifiedName = qualifiedName;
+    this.text = text;
+    this.attributes = Collections.unmodifiableMap(attributes);
+  }
+
+  /**
+   * 注解全限定名，例如 javax.validation.constraints.NotBlank
+   */
+  public String getQualifiedName() {
+    return qualifiedName;
+  }
+
+  /**
+   * 注解文本，不包含 @ 符号，例如 Size(max = 32)
+   */
+  public String getText() {
+    return text;
+  }
+
+  /**
+   * 注解参数，value 为参数值的源码文本
+   */
+  public Map<String, String> getAttributes() {
+    return attributes;
+  }
+}
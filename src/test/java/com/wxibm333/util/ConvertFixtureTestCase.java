@@ -0,0 +1,75 @@
+package com.wxibm333.util;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+import com.intellij.openapi.projectRoots.JavaSdk;
+import com.intellij.openapi.projectRoots.Sdk;
+import com.intellij.psi.PsiClass;
+import com.intellij.testFramework.LightProjectDescriptor;
+import com.intellij.testFramework.fixtures.DefaultLightProjectDescriptor;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.intellij.util.xmlb.XmlSerializerUtil;
+import java.io.IOException;
+import java.io.StringWriter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 转换引擎测试的基类，每个用例前清空项目片段缓存，用例结束后恢复插件全局配置
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 23:50
+ */
+public abstract class ConvertFixtureTestCase extends LightJavaCodeInsightFixtureTestCase {
+
+  private static final LightProjectDescriptor HOST_JDK = new HostJdkProjectDescriptor();
+
+  private ConvertToJsonParamSettings savedSettings;
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    savedSettings = XmlSerializerUtil.createCopy(ConvertToJsonParamSettings.getInstance());
+    // 片段缓存按类全限定名保存，不同用例中的同名类不能互相命中
+    JsonFragmentCache.getInstance(getProject()).clear();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    try {
+      ConvertToJsonParamSettings.getInstance().loadState(savedSettings);
+    } finally {
+      super.tearDown();
+    }
+  }
+
+  @NotNull
+  @Override
+  protected LightProjectDescriptor getProjectDescriptor() {
+    return HOST_JDK;
+  }
+
+  /**
+   * 生成类的 json schema 并解析为 JsonObject
+   */
+  protected static JsonObject schemaOf(@NotNull PsiClass psiClass) throws IOException {
+    StringWriter buffer = new StringWriter();
+    try (JsonWriter writer = new JsonWriter(buffer)) {
+      JsonSchemaUtil.writeSchema(psiClass, writer, null);
+    }
+    return JsonParser.parseString(buffer.toString()).getAsJsonObject();
+  }
+
+  /**
+   * 使用运行测试的 JDK 作为项目 SDK，IDE 发行版中不包含测试用的 mock JDK
+   */
+  private static class HostJdkProjectDescriptor extends DefaultLightProjectDescriptor {
+
+    @Override
+    public Sdk getSdk() {
+      return JavaSdk.getInstance()
+          .createJdk("test-jdk", System.getProperty("java.home"), false);
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package com.wxibm333.util;
+
+import com.google.gson.JsonObject;
+import com.intellij.psi.PsiClass;
+
+/**
+ * 循环引用、展开上限和泛型实例化的转换结果
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 23:50
+ */
+public class ConvertToJsonParamUtilTest extends ConvertFixtureTestCase {
+
+  public void testSelfReferenceWritesRefMarker() {
+    PsiClass node = myFixture.addClass("package demo;\n"
+        + "public class Node {\n"
+        + "  private String name;\n"
+        + "  private Node next;\n"
+        + "}");
+
+    JsonObject json = ConvertToJsonParamUtil.convertJsonObject(node, false, false);
+
+    assertTrue(json.has("name"));
+    assertEquals("demo.Node",
+        json.getAsJsonObject("next").get(ConvertContext.REF_KEY).getAsString());
+  }
+
+  public void testIndirectCycleThroughCollectionWritesRefMarker() {
+    myFixture.addClass("package demo;\n"
+        + "public class Customer {\n"
+        + "  private String name;\n"
+        + "  private java.util.List<Order> orders;\n"
+        + "}");
+    PsiClass order = myFixture.addClass("package demo;\n"
+        + "public class Order {\n"
+        + "  private String id;\n"
+        + "  private Customer customer;\n"
+        + "}");
+
+    JsonObject json = ConvertToJsonParamUtil.convertJsonObject(order, false, false);
+
+    JsonObject customer = json.getAsJsonObject("customer");
+    assertTrue(customer.has("name"));
+    JsonObject element = customer.getAsJsonArray("orders").get(0).getAsJsonObject();
+    assertEquals("demo.Order", element.get(ConvertContext.REF_KEY).getAsString());
+  }
+
+  public void testMaxDepthWritesTruncatedMarker() {
+    ConvertToJsonParamSettings.getInstance().maxDepth = 2;
+    myFixture.addClass("package demo;\n"
+        + "public class Third { private String value; }");
+    myFixture.addClass("package demo;\n"
+        + "public class Second { private Third third; }");
+    PsiClass first = myFixture.addClass("package demo;\n"
+        + "public class First { private Second second; }");
+
+    JsonObject json = ConvertToJsonParamUtil.convertJsonObject(first, false, false);
+
+    JsonObject third = json.getAsJsonObject("second").getAsJsonObject("third");
+    assertEquals("demo.Third", third.get(ConvertContext.TRUNCATED_KEY).getAsString());
+  }
+
+  public void testMaxNodesWritesTruncatedMarker() {
+    ConvertToJsonParamSettings.getInstance().maxNodes = 2;
+    myFixture.addClass("package demo;\n"
+        + "public class Leaf { private String value; }");
+    PsiClass root = myFixture.addClass("package demo;\n"
+        + "public class Root {\n"
+        + "  private Leaf left;\n"
+        + "  private Other right;\n"
+        + "}");
+    myFixture.addClass("package demo;\n"
+        + "public class Other { private String value; }");
+
+    JsonObject json = ConvertToJsonParamUtil.convertJsonObject(root, false, false);
+
+    assertTrue(json.getAsJsonObject("left").has("value"));
+    assertEquals("demo.Other",
+        json.getAsJsonObject("right").get(ConvertContext.TRUNCATED_KEY).getAsString());
+  }
+
+  public void testGenericFieldUsesTypeArgument() {
+    myFixture.addClass("package demo;\n"
+        + "public class UserDto { private String userName; }");
+    myFixture.addClass("package demo;\n"
+        + "public class Page<T> {\n"
+        + "  private long total;\n"
+        + "  private T first;\n"
+        + "  private java.util.List<T> records;\n"
+        + "}");
+    PsiClass holder = myFixture.addClass("package demo;\n"
+        + "public class Holder { private Page<UserDto> users; }");
+
+    JsonObject json = ConvertToJsonParamUtil.convertJsonObject(holder, false, false);
+
+    JsonObject users = json.getAsJsonObject("users");
+    assertTrue(users.has("total"));
+    assertTrue(users.getAsJsonObject("first").has("userName"));
+    assertTrue(users.getAsJsonArray("records").get(0).getAsJsonObject().has("userName"));
+  }
+
+  public void testSelfNestingGenericStopsAtMaxDepth() {
+    ConvertToJsonParamSettings.getInstance().maxDepth = 4;
+    myFixture.addClass("package demo;\n"
+        + "public class Tree<T> {\n"
+        + "  private T value;\n"
+        + "  private Tree<java.util.List<T>> children;\n"
+        + "}");
+    PsiClass forest = myFixture.addClass("package demo;\n"
+        + "public class Forest { private Tree<String> tree; }");
+
+    JsonObject json = ConvertToJsonParamUtil.convertJsonObject(forest, false, false);
+
+    JsonObject tree = json.getAsJsonObject("tree");
+    for (int depth = 2; depth < 4; depth++) {
+      tree = tree.getAsJsonObject("children");
+    }
+    assertTrue(tree.getAsJsonObject("children").has(ConvertContext.TRUNCATED_KEY));
+  }
+}
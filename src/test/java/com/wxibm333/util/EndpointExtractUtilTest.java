@@ -0,0 +1,23 @@
+package com.wxibm333.util;
+
+/**
+ * 类和方法映射路径的拼接
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 23:50
+ */
+public class EndpointExtractUtilTest extends ConvertFixtureTestCase {
+
+  public void testJoinPathNormalizesSlashes() {
+    assertEquals("/api/users", EndpointExtractUtil.joinPath("/api/", "/users/"));
+    assertEquals("/api/users/{id}", EndpointExtractUtil.joinPath("api", "users/{id}"));
+    assertEquals("/api/v1/users", EndpointExtractUtil.joinPath(" /api/v1 ", "users"));
+  }
+
+  public void testJoinPathWithEmptySegments() {
+    assertEquals("/users", EndpointExtractUtil.joinPath("", "/users"));
+    assertEquals("/api", EndpointExtractUtil.joinPath("/api", ""));
+    assertEquals("/", EndpointExtractUtil.joinPath("", "/"));
+  }
+}
@@ -0,0 +1,59 @@
+package com.wxibm333.util;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.math.BigDecimal;
+import junit.framework.TestCase;
+
+/**
+ * 写入内容构建成的 json 树
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 23:50
+ */
+public class JsonElementWriterTest extends TestCase {
+
+  public void testBuildsNestedTree() throws IOException {
+    JsonElementWriter writer = new JsonElementWriter();
+    writer.beginObject();
+    writer.name("id").value(1L);
+    writer.name("price").value(new BigDecimal("1.50"));
+    writer.name("tags").beginArray().value("a").value(true).nullValue().endArray();
+    writer.name("raw").jsonValue("{\"x\": [1]}");
+    writer.name("none").nullValue();
+    writer.endObject();
+
+    JsonObject json = writer.get().getAsJsonObject();
+
+    assertEquals(1L, json.get("id").getAsLong());
+    assertEquals("1.50", json.get("price").getAsBigDecimal().toPlainString());
+    assertEquals(3, json.getAsJsonArray("tags").size());
+    assertTrue(json.getAsJsonArray("tags").get(2).isJsonNull());
+    assertEquals(1, json.getAsJsonObject("raw").getAsJsonArray("x").get(0).getAsInt());
+    assertTrue(json.get("none").isJsonNull());
+  }
+
+  public void testSkipsNullMembersWhenNullsAreNotSerialized() throws IOException {
+    JsonElementWriter writer = new JsonElementWriter();
+    writer.setSerializeNulls(false);
+    writer.beginObject().name("none").nullValue().name("id").value(1L).endObject();
+
+    JsonElement json = writer.get();
+
+    assertFalse(json.getAsJsonObject().has("none"));
+    assertTrue(json.getAsJsonObject().has("id"));
+  }
+
+  public void testIncompleteDocumentIsRejected() throws IOException {
+    JsonElementWriter writer = new JsonElementWriter();
+    writer.beginObject().name("id");
+
+    try {
+      writer.get();
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.wxibm333.util;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.intellij.psi.PsiClass;
+import java.io.IOException;
+
+/**
+ * json schema 的 $defs 去重、枚举、校验注解和泛型实例化
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 23:50
+ */
+public class JsonSchemaUtilTest extends ConvertFixtureTestCase {
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    myFixture.addClass("package javax.validation.constraints;\n"
+        + "public @interface NotNull {}");
+    myFixture.addClass("package javax.validation.constraints;\n"
+        + "public @interface Size { int min() default 0; int max() default 2147483647; }");
+  }
+
+  public void testRepeatedTypeIsDefinedOnce() throws IOException {
+    myFixture.addClass("package demo;\n"
+        + "public class Address { private String city; }");
+    myFixture.addClass("package demo;\n"
+        + "public enum Status { CREATED, PAID }");
+    PsiClass order = myFixture.addClass("package demo;\n"
+        + "public class Order {\n"
+        + "  private Address billing;\n"
+        + "  private Address shipping;\n"
+        + "  private java.util.List<Address> history;\n"
+        + "  private Status status;\n"
+        + "}");
+
+    JsonObject schema = ConvertFixtureTestCase.schemaOf(order);
+
+    assertEquals("#/$defs/demo.Order", schema.get("$ref").getAsString());
+    JsonObject defs = schema.getAsJsonObject("$defs");
+    assertEquals(3, defs.size());
+    JsonObject properties = defs.getAsJsonObject("demo.Order").getAsJsonObject("properties");
+    assertEquals("#/$defs/demo.Address",
+        properties.getAsJsonObject("billing").get("$ref").getAsString());
+    assertEquals("#/$defs/demo.Address",
+        properties.getAsJsonObject("shipping").get("$ref").getAsString());
+    assertEquals("#/$defs/demo.Address", properties.getAsJsonObject("history")
+        .getAsJsonObject("items").get("$ref").getAsString());
+    JsonArray constants = defs.getAsJsonObject("demo.Status").getAsJsonArray("enum");
+    assertEquals(2, constants.size());
+    assertEquals("CREATED", constants.get(0).getAsString());
+  }
+
+  public void testValidationAnnotationsBecomeKeywords() throws IOException {
+    PsiClass user = myFixture.addClass("package demo;\n"
+        + "import javax.validation.constraints.*;\n"
+        + "public class User {\n"
+        + "  @NotNull @Size(min = 2, max = 8) private String name;\n"
+        + "  @Size(max = 3) private java.util.List<String> tags;\n"
+        + "  private String remark;\n"
+        + "}");
+
+    JsonObject definition = ConvertFixtureTestCase.schemaOf(user).getAsJsonObject("$defs")
+        .getAsJsonObject("demo.User");
+
+    JsonObject properties = definition.getAsJsonObject("properties");
+    JsonObject name = properties.getAsJsonObject("name");
+    assertEquals(2, name.get("minLength").getAsInt());
+    assertEquals(8, name.get("maxLength").getAsInt());
+    assertEquals(3, properties.getAsJsonObject("tags").get("maxItems").getAsInt());
+    JsonArray required = definition.getAsJsonArray("required");
+    assertEquals(1, required.size());
+    assertEquals("name", required.get(0).getAsString());
+  }
+
+  public void testGenericInstantiationsAreDefinedSeparately() throws IOException {
+    myFixture.addClass("package demo;\n"
+        + "public class UserDto { private String userName; }");
+    myFixture.addClass("package demo;\n"
+        + "public class Page<T> { private java.util.List<T> records; }");
+    PsiClass holder = myFixture.addClass("package demo;\n"
+        + "public class Holder {\n"
+        + "  private Page<UserDto> users;\n"
+        + "  private Page<String> names;\n"
+        + "}");
+
+    JsonObject defs = ConvertFixtureTestCase.schemaOf(holder).getAsJsonObject("$defs");
+
+    assertEquals(4, defs.size());
+    assertTrue(defs.has("demo.UserDto"));
+  }
+
+  public void testSelfNestingGenericStopsAtMaxNodes() throws IOException {
+    ConvertToJsonParamSettings.getInstance().maxNodes = 10;
+    myFixture.addClass("package demo;\n"
+        + "public class Tree<T> {\n"
+        + "  private T value;\n"
+        + "  private Tree<java.util.List<T>> children;\n"
+        + "}");
+    PsiClass forest = myFixture.addClass("package demo;\n"
+        + "public class Forest { private Tree<String> tree; }");
+
+    JsonObject defs = ConvertFixtureTestCase.schemaOf(forest).getAsJsonObject("$defs");
+
+    assertEquals(10, defs.size());
+  }
+}
@@ -0,0 +1,60 @@
+package com.wxibm333.util;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+/**
+ * json 样例生成 java bean 源码时的类型推断和嵌套类
+ *
+ * @author wangXin
+ * @version v1.0.1
+ * @date 2026-10-17 23:50
+ */
+public class JsonToBeanUtilTest extends ConvertFixtureTestCase {
+
+  public void testScalarTypesAreInferred() throws IOException {
+    String source = JsonToBeanUtilTest.generate("{\"id\": 1, \"count\": 3000000000, "
+        + "\"price\": 1.5, \"paid\": true, \"title\": \"a\", \"day\": \"2026-10-17\", "
+        + "\"createdAt\": \"2026-10-17 23:50:00\", \"at\": \"23:50:00\", \"extra\": {}}");
+
+    assertTrue(source.startsWith("package demo;"));
+    assertTrue(source.contains("public class Order {"));
+    assertTrue(source.contains("private java.lang.Integer id;"));
+    assertTrue(source.contains("private java.lang.Long count;"));
+    assertTrue(source.contains("private java.math.BigDecimal price;"));
+    assertTrue(source.contains("private java.lang.Boolean paid;"));
+    assertTrue(source.contains("private java.lang.String title;"));
+    assertTrue(source.contains("private java.time.LocalDate day;"));
+    assertTrue(source.contains("private java.time.LocalDateTime createdAt;"));
+    assertTrue(source.contains("private java.time.LocalTime at;"));
+    assertTrue(source.contains("private java.util.Map<java.lang.String, java.lang.Object> extra;"));
+  }
+
+  public void testArrayElementsAreMerged() throws IOException {
+    String source = JsonToBeanUtilTest.generate("{\"items\": [{\"id\": 1, \"note\": null}, "
+        + "{\"id\": 3000000000, \"price\": 2, \"note\": \"x\"}, {\"price\": 2.5}]}");
+
+    assertTrue(source.contains("private java.util.List<Item> items;"));
+    assertTrue(source.contains("public static class Item {"));
+    assertTrue(source.contains("private java.lang.Long id;"));
+    assertTrue(source.contains("private java.math.BigDecimal price;"));
+    assertTrue(source.contains("private java.lang.String note;"));
+  }
+
+  public void testNestedObjectsBecomeStaticClasses() throws IOException {
+    String source = JsonToBeanUtilTest.generate("{\"user_name\": \"a\", "
+        + "\"customer\": {\"address\": {\"city\": \"b\"}}}");
+
+    assertTrue(source.contains(" * json: user_name"));
+    assertTrue(source.contains("private java.lang.String userName;"));
+    assertTrue(source.contains("private Customer customer;"));
+    assertTrue(source.contains("public static class Customer {"));
+    assertTrue(source.contains("private Address address;"));
+    assertTrue(source.contains("public static class Address {"));
+    assertTrue(source.contains("public java.lang.String getCity() {"));
+  }
+
+  private static String generate(String json) throws IOException {
+    return JsonToBeanUtil.generateSource(new StringReader(json), "Order", "demo");
+  }
+}